@@ -19,13 +19,13 @@
  */
 package org.thymeleaf.extras.java8time.dialect;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
 import org.thymeleaf.context.IProcessingContext;
 import org.thymeleaf.dialect.AbstractDialect;
 import org.thymeleaf.dialect.IExpressionEnhancingDialect;
-import org.thymeleaf.extras.java8time.expression.Temporals;
+import org.thymeleaf.util.Validate;
 
 /**
  * 
@@ -39,8 +39,35 @@ public class Java8TimeDialect extends AbstractDialect implements IExpressionEnha
 
     private static final String TEMPORAL_EVALUATION_VARIABLE_NAME = "temporals";
 
+    private final Java8TimeDialectConfiguration configuration;
+    // Thymeleaf copies these into its own map, so the shared maps are never modified
+    private final Java8TimeTemporalsPool<Map<String, Object>> expressionObjects;
+
     public Java8TimeDialect() {
+        this(Java8TimeDialectConfiguration.builder().build());
+    }
+
+    /**
+     * Creates a dialect with the given configuration. The settings of the shared caches are
+     * applied to the whole JVM.
+     *
+     * @since 2.1.1
+     */
+    public Java8TimeDialect(final Java8TimeDialectConfiguration configuration) {
         super();
+        Validate.notNull(configuration, "Configuration cannot be null");
+        this.configuration = configuration;
+        this.expressionObjects = new Java8TimeTemporalsPool<>(configuration,
+            temporals -> Collections.singletonMap(TEMPORAL_EVALUATION_VARIABLE_NAME, temporals));
+        configuration.applySharedSettings();
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public Java8TimeDialectConfiguration getConfiguration() {
+        return configuration;
     }
 
     @Override
@@ -57,10 +84,7 @@ public boolean isLenient() {
 
     @Override
     public Map<String, Object> getAdditionalExpressionObjects(IProcessingContext processingContext) {
-        Map<String, Object> expressionObjects = new HashMap<>();
-        Locale locale = processingContext.getContext().getLocale();
-        expressionObjects.put(TEMPORAL_EVALUATION_VARIABLE_NAME, new Temporals(locale));
-        return expressionObjects;
+        return expressionObjects.get(processingContext.getContext().getLocale());
     }
 
 }
@@ -0,0 +1,254 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2011-2014, The THYMELEAF team (http://www.thymeleaf.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.thymeleaf.extras.java8time.dialect;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import org.thymeleaf.extras.java8time.util.TemporalMetricsSink;
+import org.thymeleaf.extras.java8time.util.TemporalObjects;
+import org.thymeleaf.extras.java8time.util.TemporalResultCache;
+import org.thymeleaf.util.Validate;
+
+/**
+ * <p>
+ * Immutable configuration of a {@link Java8TimeDialect}, created with a {@link Builder}:
+ * </p>
+ * <pre>
+ *   Java8TimeDialectConfiguration.builder()
+ *       .defaultZoneId(ZoneId.of("Europe/Madrid"))
+ *       .formatterCacheMaxSize(1000)
+ *       .resultCacheMaxSize(10000)
+ *       .build();
+ * </pre>
+ * <p>
+ * The default zone and the clock only apply to the <tt>#temporals</tt> objects of the dialect.
+ * The cache sizes, fast paths and metrics sink configure the caches shared by the whole JVM,
+ * and are applied when the dialect is created. Settings that are not specified keep their
+ * current values.
+ * </p>
+ *
+ * @author Jos&eacute; Miguel Samper
+ *
+ * @since 2.1.1
+ */
+public final class Java8TimeDialectConfiguration {
+
+    private final ZoneId defaultZoneId;
+    private final Clock clock;
+    private final Integer formatterCacheMaxSize;
+    private final Integer resultCacheMaxSize;
+    private final Integer patternPromotionThreshold;
+    private final Boolean fastPathsEnabled;
+    private final Integer parallelThreshold;
+    private final Integer parallelism;
+    private final TemporalMetricsSink metricsSink;
+
+    private Java8TimeDialectConfiguration(final Builder builder) {
+        super();
+        this.defaultZoneId = builder.defaultZoneId;
+        this.clock = builder.clock;
+        this.formatterCacheMaxSize = builder.formatterCacheMaxSize;
+        this.resultCacheMaxSize = builder.resultCacheMaxSize;
+        this.patternPromotionThreshold = builder.patternPromotionThreshold;
+        this.fastPathsEnabled = builder.fastPathsEnabled;
+        this.parallelThreshold = builder.parallelThreshold;
+        this.parallelism = builder.parallelism;
+        this.metricsSink = builder.metricsSink;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the default zone of the <tt>#temporals</tt> objects, or null for the system default zone.
+     */
+    public ZoneId getDefaultZoneId() {
+        return defaultZoneId;
+    }
+
+    /**
+     * @return the clock of the <tt>#temporals</tt> objects, or null for the system clock.
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    public Integer getFormatterCacheMaxSize() {
+        return formatterCacheMaxSize;
+    }
+
+    public Integer getResultCacheMaxSize() {
+        return resultCacheMaxSize;
+    }
+
+    public Integer getPatternPromotionThreshold() {
+        return patternPromotionThreshold;
+    }
+
+    public Boolean getFastPathsEnabled() {
+        return fastPathsEnabled;
+    }
+
+    public Integer getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public TemporalMetricsSink getMetricsSink() {
+        return metricsSink;
+    }
+
+    /**
+     * Applies the settings of the JVM-wide caches and fast paths. Called by the dialects when
+     * they are created.
+     */
+    public void applySharedSettings() {
+        if (formatterCacheMaxSize != null) {
+            TemporalObjects.setFormatterCacheMaxSize(formatterCacheMaxSize.intValue());
+        }
+        if (resultCacheMaxSize != null) {
+            if (resultCacheMaxSize.intValue() == 0) {
+                TemporalResultCache.disable();
+            } else {
+                TemporalResultCache.enable(resultCacheMaxSize.intValue());
+            }
+        }
+        if (patternPromotionThreshold != null) {
+            TemporalObjects.setPatternPromotionThreshold(patternPromotionThreshold.intValue());
+        }
+        if (fastPathsEnabled != null) {
+            TemporalObjects.setFastPathsEnabled(fastPathsEnabled.booleanValue());
+        }
+        if (parallelThreshold != null) {
+            TemporalObjects.setParallelThreshold(parallelThreshold.intValue());
+        }
+        if (parallelism != null) {
+            TemporalObjects.setParallelism(parallelism.intValue());
+        }
+        if (metricsSink != null) {
+            TemporalObjects.setMetricsSink(metricsSink);
+        }
+    }
+
+
+    public static final class Builder {
+
+        private ZoneId defaultZoneId = null;
+        private Clock clock = null;
+        private Integer formatterCacheMaxSize = null;
+        private Integer resultCacheMaxSize = null;
+        private Integer patternPromotionThreshold = null;
+        private Boolean fastPathsEnabled = null;
+        private Integer parallelThreshold = null;
+        private Integer parallelism = null;
+        private TemporalMetricsSink metricsSink = null;
+
+        private Builder() {
+            super();
+        }
+
+        /**
+         * Sets the zone used for formatting objects without one, instead of the system default zone.
+         */
+        public Builder defaultZoneId(final ZoneId defaultZoneId) {
+            Validate.notNull(defaultZoneId, "ZoneId cannot be null");
+            this.defaultZoneId = defaultZoneId;
+            return this;
+        }
+
+        /**
+         * Sets the clock used for obtaining the current date and time, instead of the system clock.
+         */
+        public Builder clock(final Clock clock) {
+            Validate.notNull(clock, "Clock cannot be null");
+            this.clock = clock;
+            return this;
+        }
+
+        public Builder formatterCacheMaxSize(final int maxSize) {
+            Validate.isTrue(maxSize > 0, "Maximum size must be greater than zero");
+            this.formatterCacheMaxSize = Integer.valueOf(maxSize);
+            return this;
+        }
+
+        /**
+         * Sets the maximum size of the cache of formatted results. Zero disables the cache.
+         */
+        public Builder resultCacheMaxSize(final int maxSize) {
+            Validate.isTrue(maxSize >= 0, "Maximum size cannot be negative");
+            this.resultCacheMaxSize = Integer.valueOf(maxSize);
+            return this;
+        }
+
+        /**
+         * Sets the number of calls after which numeric patterns are compiled into specialized
+         * formatters. Zero disables the specialized formatters.
+         */
+        public Builder patternPromotionThreshold(final int threshold) {
+            Validate.isTrue(threshold >= 0, "Threshold cannot be negative");
+            this.patternPromotionThreshold = Integer.valueOf(threshold);
+            return this;
+        }
+
+        /**
+         * Enables or disables the hand-written ISO-8601 and RFC-1123 printers, the incremental
+         * formatting of series and the formatting of each distinct value of a batch only once.
+         */
+        public Builder fastPathsEnabled(final boolean enabled) {
+            this.fastPathsEnabled = Boolean.valueOf(enabled);
+            return this;
+        }
+
+        /**
+         * Sets the minimum size of the arrays and lists formatted in parallel. Zero disables
+         * parallel formatting.
+         */
+        public Builder parallelThreshold(final int threshold) {
+            Validate.isTrue(threshold >= 0, "Threshold cannot be negative");
+            this.parallelThreshold = Integer.valueOf(threshold);
+            return this;
+        }
+
+        /**
+         * Sets the number of threads of the pool used for parallel formatting.
+         */
+        public Builder parallelism(final int parallelism) {
+            Validate.isTrue(parallelism > 0, "Parallelism must be greater than zero");
+            this.parallelism = Integer.valueOf(parallelism);
+            return this;
+        }
+
+        public Builder metricsSink(final TemporalMetricsSink metricsSink) {
+            Validate.notNull(metricsSink, "Metrics sink cannot be null");
+            this.metricsSink = metricsSink;
+            return this;
+        }
+
+        public Java8TimeDialectConfiguration build() {
+            return new Java8TimeDialectConfiguration(this);
+        }
+
+    }
+
+}
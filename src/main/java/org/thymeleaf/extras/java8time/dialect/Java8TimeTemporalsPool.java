@@ -0,0 +1,106 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2011-2014, The THYMELEAF team (http://www.thymeleaf.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.thymeleaf.extras.java8time.dialect;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.function.Function;
+import org.thymeleaf.extras.java8time.expression.Temporals;
+import org.thymeleaf.extras.java8time.util.BoundedCache;
+import org.thymeleaf.util.Validate;
+
+/**
+ * <p>
+ * Pool of the <tt>#temporals</tt> objects of a dialect configuration, shared by the dialects of
+ * the different Thymeleaf versions.
+ * </p>
+ * <p>
+ * <tt>Temporals</tt> objects are immutable and only build their utils when first used, so one
+ * instance per locale is shared by all template executions. Without a configured zone, the
+ * instance of a locale is recreated when the default zone of the JVM changes.
+ * </p>
+ *
+ * @param <T> the type of the pooled objects: the <tt>Temporals</tt> objects themselves, or the
+ *        expression objects built from them.
+ *
+ * @author Jos&eacute; Miguel Samper
+ *
+ * @since 2.1.1
+ */
+public final class Java8TimeTemporalsPool<T> {
+
+    private static final int MAX_POOLED_LOCALES = 256;
+
+    private final Java8TimeDialectConfiguration configuration;
+    private final Function<? super Temporals, ? extends T> wrapper;
+    private final BoundedCache<Locale, Pooled<T>> pooledByLocale = new BoundedCache<>(MAX_POOLED_LOCALES);
+
+    /**
+     * @param configuration the configuration of the dialect
+     * @param wrapper builds the pooled object from a newly created <tt>Temporals</tt> object
+     */
+    public Java8TimeTemporalsPool(
+            final Java8TimeDialectConfiguration configuration, final Function<? super Temporals, ? extends T> wrapper) {
+        super();
+        Validate.notNull(configuration, "Configuration cannot be null");
+        Validate.notNull(wrapper, "Wrapper cannot be null");
+        this.configuration = configuration;
+        this.wrapper = wrapper;
+    }
+
+    /**
+     * @param locale the locale of the template execution
+     * @return the pooled object of the locale
+     */
+    public T get(final Locale locale) {
+        final ZoneId defaultZoneId =
+            configuration.getDefaultZoneId() != null ? configuration.getDefaultZoneId() : ZoneId.systemDefault();
+        Pooled<T> pooled = pooledByLocale.get(locale);
+        if (pooled == null || !pooled.defaultZoneId.equals(defaultZoneId)) {
+            pooled = new Pooled<>(defaultZoneId, wrapper.apply(createTemporals(locale, defaultZoneId)));
+            pooledByLocale.put(locale, pooled);
+        }
+        return pooled.object;
+    }
+
+    private Temporals createTemporals(final Locale locale, final ZoneId defaultZoneId) {
+        final Clock clock = configuration.getClock() != null ? configuration.getClock() : Clock.system(defaultZoneId);
+        return new Temporals(locale, defaultZoneId, clock);
+    }
+
+
+    /*
+     * Pooled object of a locale, along with the zone it was created for.
+     */
+    private static final class Pooled<T> {
+
+        private final ZoneId defaultZoneId;
+        private final T object;
+
+        private Pooled(final ZoneId defaultZoneId, final T object) {
+            super();
+            this.defaultZoneId = defaultZoneId;
+            this.object = object;
+        }
+
+    }
+
+}
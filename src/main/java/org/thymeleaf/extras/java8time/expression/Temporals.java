@@ -19,16 +19,21 @@
  */
 package org.thymeleaf.extras.java8time.expression;
 
+import java.time.Clock;
 import java.time.ZoneId;
 import java.time.temporal.Temporal;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.thymeleaf.extras.java8time.util.TemporalArrayUtils;
 import org.thymeleaf.extras.java8time.util.TemporalCreationUtils;
 import org.thymeleaf.extras.java8time.util.TemporalFormattingUtils;
+import org.thymeleaf.extras.java8time.util.TemporalIterableUtils;
 import org.thymeleaf.extras.java8time.util.TemporalListUtils;
+import org.thymeleaf.extras.java8time.util.TemporalObjects;
 import org.thymeleaf.extras.java8time.util.TemporalSetUtils;
 import org.thymeleaf.util.Validate;
 
@@ -40,6 +45,9 @@
  * An object of this class is usually available in variable evaluation expressions with the name
  * <tt>#temporals</tt>.
  * </p>
+ * <p>
+ * Instances are immutable and thread-safe, so they can be shared by any number of template executions.
+ * </p>
  *
  * @author Jos&eacute; Miguel Samper
  *
@@ -47,24 +55,44 @@
  */
 public final class Temporals {
 
-    private final TemporalCreationUtils temporalCreationUtils;
-    private final TemporalFormattingUtils temporalFormattingUtils;
-    private final TemporalArrayUtils temporalArrayUtils;
-    private final TemporalListUtils temporalListUtils;
-    private final TemporalSetUtils temporalSetUtils;
+    private final Locale locale;
+    private final ZoneId defaultZoneId;
+    private final Clock clock;
+
+    // The utils are only built when first used, as most templates never use #temporals
+    private volatile Utils utils;
 
     public Temporals(final Locale locale) {
         this(locale, ZoneId.systemDefault());
     }
 
     public Temporals(final Locale locale, final ZoneId defaultZoneId) {
+        this(locale, defaultZoneId, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates an instance whose current dates and times are obtained from the given clock.
+     *
+     * @since 2.1.1
+     */
+    public Temporals(final Locale locale, final ZoneId defaultZoneId, final Clock clock) {
         super();
         Validate.notNull(locale, "Locale cannot be null");
-        this.temporalCreationUtils = new TemporalCreationUtils();
-        this.temporalFormattingUtils = new TemporalFormattingUtils(locale, defaultZoneId);
-        this.temporalArrayUtils = new TemporalArrayUtils(locale, defaultZoneId);
-        this.temporalListUtils = new TemporalListUtils(locale, defaultZoneId);
-        this.temporalSetUtils = new TemporalSetUtils(locale, defaultZoneId);
+        Validate.notNull(defaultZoneId, "ZoneId cannot be null");
+        Validate.notNull(clock, "Clock cannot be null");
+        this.locale = locale;
+        this.defaultZoneId = defaultZoneId;
+        this.clock = clock;
+    }
+
+    private Utils utils() {
+        Utils current = utils;
+        if (current == null) {
+            // Utils are immutable, so building them twice in a race is harmless
+            current = new Utils(locale, defaultZoneId, clock);
+            utils = current;
+        }
+        return current;
     }
 
     /**
@@ -73,7 +101,7 @@ public Temporals(final Locale locale, final ZoneId defaultZoneId) {
      * @since 2.1.0
      */
     public Temporal create(final Object year, final Object month, final Object day) {
-        return temporalCreationUtils.create(year, month, day);
+        return utils().temporalCreationUtils.create(year, month, day);
     }
 
     /**
@@ -83,7 +111,7 @@ public Temporal create(final Object year, final Object month, final Object day)
      */
     public Temporal create(final Object year, final Object month, final Object day,
         final Object hour, final Object minute) {
-        return temporalCreationUtils.create(year, month, day, hour, minute);
+        return utils().temporalCreationUtils.create(year, month, day, hour, minute);
     }
 
     /**
@@ -93,7 +121,7 @@ public Temporal create(final Object year, final Object month, final Object day,
      */
     public Temporal create(final Object year, final Object month, final Object day,
         final Object hour, final Object minute, final Object second) {
-        return temporalCreationUtils.create(year, month, day, hour, minute, second);
+        return utils().temporalCreationUtils.create(year, month, day, hour, minute, second);
     }
 
     /**
@@ -103,7 +131,7 @@ public Temporal create(final Object year, final Object month, final Object day,
      */
     public Temporal create(final Object year, final Object month, final Object day,
         final Object hour, final Object minute, final Object second, final Object nanosecond) {
-        return temporalCreationUtils.create(year, month, day, hour, minute, second, nanosecond);
+        return utils().temporalCreationUtils.create(year, month, day, hour, minute, second, nanosecond);
     }
     
     /**
@@ -112,7 +140,7 @@ public Temporal create(final Object year, final Object month, final Object day,
      * @since 2.1.0
      */
     public Temporal createDate(final String isoDate) {
-        return temporalCreationUtils.createDate(isoDate);
+        return utils().temporalCreationUtils.createDate(isoDate);
     }
     
     /**
@@ -121,7 +149,7 @@ public Temporal createDate(final String isoDate) {
      * @since 2.1.0
      */
     public Temporal createDateTime(final String isoDate) {
-        return temporalCreationUtils.createDateTime(isoDate);
+        return utils().temporalCreationUtils.createDateTime(isoDate);
     }
     
     /**
@@ -130,7 +158,7 @@ public Temporal createDateTime(final String isoDate) {
      * @since 2.1.0
      */
     public Temporal createDate(final String isoDate, final String pattern) {
-        return temporalCreationUtils.createDate(isoDate, pattern);
+        return utils().temporalCreationUtils.createDate(isoDate, pattern);
     }
     
     /**
@@ -139,7 +167,25 @@ public Temporal createDate(final String isoDate, final String pattern) {
      * @since 2.1.0
      */
     public Temporal createDateTime(final String isoDate, final String pattern) {
-        return temporalCreationUtils.createDateTime(isoDate, pattern);
+        return utils().temporalCreationUtils.createDateTime(isoDate, pattern);
+    }
+
+    /**
+     *
+     * @return a instance of java.time.LocalDate
+     * @since 2.1.1
+     */
+    public Temporal createDate(final String isoDate, final String pattern, final Locale locale) {
+        return utils().temporalCreationUtils.createDate(isoDate, pattern, locale);
+    }
+
+    /**
+     *
+     * @return a instance of java.time.LocalDateTime
+     * @since 2.1.1
+     */
+    public Temporal createDateTime(final String isoDate, final String pattern, final Locale locale) {
+        return utils().temporalCreationUtils.createDateTime(isoDate, pattern, locale);
     }
 
     /**
@@ -148,7 +194,7 @@ public Temporal createDateTime(final String isoDate, final String pattern) {
      * @since 2.1.0
      */
     public Temporal createNow() {
-        return temporalCreationUtils.createNow();
+        return utils().temporalCreationUtils.createNow();
     }
 
     /**
@@ -157,7 +203,7 @@ public Temporal createNow() {
      * @since 2.1.0
      */
     public Temporal createNowForTimeZone(final Object zoneId) {
-        return temporalCreationUtils.createNowForTimeZone(zoneId);
+        return utils().temporalCreationUtils.createNowForTimeZone(zoneId);
     }
 
     /**
@@ -166,7 +212,7 @@ public Temporal createNowForTimeZone(final Object zoneId) {
      * @since 2.1.0
      */
     public Temporal createToday() {
-        return temporalCreationUtils.createToday();
+        return utils().temporalCreationUtils.createToday();
     }
 
     /**
@@ -175,7 +221,7 @@ public Temporal createToday() {
      * @since 2.1.0
      */
     public Temporal createTodayForTimeZone(final Object zoneId) {
-        return temporalCreationUtils.createTodayForTimeZone(zoneId);
+        return utils().temporalCreationUtils.createTodayForTimeZone(zoneId);
     }
 
     /**
@@ -183,7 +229,27 @@ public Temporal createTodayForTimeZone(final Object zoneId) {
      * @since 2.1.0
      */
     public String format(final Temporal target) {
-        return temporalFormattingUtils.format(target);
+        return utils().temporalFormattingUtils.format(target);
+    }
+
+    /**
+     * Formats the current date and time with the given pattern. The output is the same as
+     * <tt>format(createNow(), pattern)</tt>, but the formatted text is cached for the current second.
+     *
+     * @since 2.1.1
+     */
+    public String formatNow(final String pattern) {
+        final Utils utils = utils();
+        return utils.temporalFormattingUtils.formatNow(utils.temporalCreationUtils.getClock(), pattern);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public String formatNow(final String pattern, final Locale locale) {
+        final Utils utils = utils();
+        return utils.temporalFormattingUtils.formatNow(utils.temporalCreationUtils.getClock(), pattern, locale);
     }
 
     /**
@@ -191,7 +257,7 @@ public String format(final Temporal target) {
      * @since 2.1.0
      */
     public String[] arrayFormat(final Object[] target) {
-        return temporalArrayUtils.arrayFormat(target);
+        return utils().temporalArrayUtils.arrayFormat(target);
     }
 
     /**
@@ -199,7 +265,7 @@ public String[] arrayFormat(final Object[] target) {
      * @since 2.1.0
      */
     public List<String> listFormat(final List<? extends Temporal> target) {
-        return temporalListUtils.listFormat(target);
+        return utils().temporalListUtils.listFormat(target);
     }
 
     /**
@@ -207,7 +273,7 @@ public List<String> listFormat(final List<? extends Temporal> target) {
      * @since 2.1.0
      */
     public Set<String> setFormat(final Set<? extends Temporal> target) {
-        return temporalSetUtils.setFormat(target);
+        return utils().temporalSetUtils.setFormat(target);
     }
 
     /**
@@ -215,7 +281,7 @@ public Set<String> setFormat(final Set<? extends Temporal> target) {
      * @since 2.1.1
      */
     public String format(final Temporal target, final Locale locale) {
-        return temporalFormattingUtils.format(target, locale);
+        return utils().temporalFormattingUtils.format(target, locale);
     }
 
     /**
@@ -223,7 +289,7 @@ public String format(final Temporal target, final Locale locale) {
      * @since 2.1.1
      */
     public String[] arrayFormat(final Object[] target, final Locale locale) {
-        return temporalArrayUtils.arrayFormat(target, locale);
+        return utils().temporalArrayUtils.arrayFormat(target, locale);
     }
 
     /**
@@ -231,7 +297,7 @@ public String[] arrayFormat(final Object[] target, final Locale locale) {
      * @since 2.1.1
      */
     public List<String> listFormat(final List<? extends Temporal> target, final Locale locale) {
-        return temporalListUtils.listFormat(target, locale);
+        return utils().temporalListUtils.listFormat(target, locale);
     }
 
     /**
@@ -239,7 +305,7 @@ public List<String> listFormat(final List<? extends Temporal> target, final Loca
      * @since 2.1.1
      */
     public Set<String> setFormat(final Set<? extends Temporal> target, final Locale locale) {
-        return temporalSetUtils.setFormat(target, locale);
+        return utils().temporalSetUtils.setFormat(target, locale);
     }
 
     /**
@@ -247,7 +313,7 @@ public Set<String> setFormat(final Set<? extends Temporal> target, final Locale
      * @since 2.1.0
      */
     public String format(final Temporal target, final String pattern) {
-        return temporalFormattingUtils.format(target, pattern);
+        return utils().temporalFormattingUtils.format(target, pattern);
     }
 
     /**
@@ -255,7 +321,7 @@ public String format(final Temporal target, final String pattern) {
      * @since 2.1.0
      */
     public String[] arrayFormat(final Object[] target, final String pattern) {
-        return temporalArrayUtils.arrayFormat(target, pattern);
+        return utils().temporalArrayUtils.arrayFormat(target, pattern);
     }
 
     /**
@@ -263,7 +329,7 @@ public String[] arrayFormat(final Object[] target, final String pattern) {
      * @since 2.1.0
      */
     public List<String> listFormat(final List<? extends Temporal> target, final String pattern) {
-        return temporalListUtils.listFormat(target, pattern);
+        return utils().temporalListUtils.listFormat(target, pattern);
     }
 
     /**
@@ -271,7 +337,7 @@ public List<String> listFormat(final List<? extends Temporal> target, final Stri
      * @since 2.1.0
      */
     public Set<String> setFormat(final Set<? extends Temporal> target, final String pattern) {
-        return temporalSetUtils.setFormat(target, pattern);
+        return utils().temporalSetUtils.setFormat(target, pattern);
     }
 
     /**
@@ -279,7 +345,7 @@ public Set<String> setFormat(final Set<? extends Temporal> target, final String
      * @since 2.1.1
      */
     public String format(final Temporal target, final String pattern, final Locale locale) {
-        return temporalFormattingUtils.format(target, pattern, locale);
+        return utils().temporalFormattingUtils.format(target, pattern, locale);
     }
 
     /**
@@ -287,7 +353,7 @@ public String format(final Temporal target, final String pattern, final Locale l
      * @since 2.1.1
      */
     public String[] arrayFormat(final Object[] target, final String pattern, final Locale locale) {
-        return temporalArrayUtils.arrayFormat(target, pattern, locale);
+        return utils().temporalArrayUtils.arrayFormat(target, pattern, locale);
     }
 
     /**
@@ -295,7 +361,7 @@ public String[] arrayFormat(final Object[] target, final String pattern, final L
      * @since 2.1.1
      */
     public List<String> listFormat(final List<? extends Temporal> target, final String pattern, final Locale locale) {
-        return temporalListUtils.listFormat(target, pattern, locale);
+        return utils().temporalListUtils.listFormat(target, pattern, locale);
     }
 
     /**
@@ -303,7 +369,287 @@ public List<String> listFormat(final List<? extends Temporal> target, final Stri
      * @since 2.1.1
      */
     public Set<String> setFormat(final Set<? extends Temporal> target, final String pattern, final Locale locale) {
-        return temporalSetUtils.setFormat(target, pattern, locale);
+        return utils().temporalSetUtils.setFormat(target, pattern, locale);
+    }
+
+    /**
+     * Formats with a locale given as a language tag (<tt>es-ES</tt>) or in the format of
+     * {@link Locale#toString()} (<tt>es_ES</tt>), resolved only once per JVM.
+     *
+     * @since 2.1.1
+     */
+    public String format(final Temporal target, final String pattern, final String locale) {
+        return format(target, pattern, TemporalObjects.locale(locale));
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public String[] arrayFormat(final Object[] target, final String pattern, final String locale) {
+        return arrayFormat(target, pattern, TemporalObjects.locale(locale));
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public List<String> listFormat(final List<? extends Temporal> target, final String pattern, final String locale) {
+        return listFormat(target, pattern, TemporalObjects.locale(locale));
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public Set<String> setFormat(final Set<? extends Temporal> target, final String pattern, final String locale) {
+        return setFormat(target, pattern, TemporalObjects.locale(locale));
+    }
+
+    /**
+     * Formats epoch milliseconds as the date and time of each instant in the default zone.
+     *
+     * @since 2.1.1
+     */
+    public String[] arrayFormatEpochMillis(final long[] target, final String pattern) {
+        return utils().temporalArrayUtils.arrayFormatEpochMillis(target, pattern);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public String[] arrayFormatEpochMillis(final long[] target, final String pattern, final ZoneId zoneId) {
+        return utils().temporalArrayUtils.arrayFormatEpochMillis(target, pattern, zoneId);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public String[] arrayFormatEpochSeconds(final long[] target, final String pattern) {
+        return utils().temporalArrayUtils.arrayFormatEpochSeconds(target, pattern);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public String[] arrayFormatEpochSeconds(final long[] target, final String pattern, final ZoneId zoneId) {
+        return utils().temporalArrayUtils.arrayFormatEpochSeconds(target, pattern, zoneId);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public String[] arrayFormatEpochDays(final int[] target, final String pattern) {
+        return utils().temporalArrayUtils.arrayFormatEpochDays(target, pattern);
+    }
+
+    /**
+     * Formats the page of the list of at most <tt>limit</tt> elements starting at
+     * <tt>offset</tt>: useful when only a page of a long list is rendered.
+     *
+     * @since 2.1.1
+     */
+    public List<String> listFormat(final List<? extends Temporal> target, final int offset, final int limit) {
+        return utils().temporalListUtils.listFormat(target, offset, limit);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public List<String> listFormat(
+            final List<? extends Temporal> target, final String pattern, final int offset, final int limit) {
+        return utils().temporalListUtils.listFormat(target, pattern, offset, limit);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public List<String> listFormat(final List<? extends Temporal> target, final String pattern, final Locale locale,
+            final int offset, final int limit) {
+        return utils().temporalListUtils.listFormat(target, pattern, locale, offset, limit);
+    }
+
+    /**
+     * Returns a read-only view of the list, formatting each element the first time it is read.
+     * <tt>th:each</tt> copies the lists it iterates in Thymeleaf 2.1, so rendering a page needs
+     * iterating a <tt>subList</tt> of the view, or the <tt>offset</tt> and <tt>limit</tt>
+     * variants of <tt>listFormat</tt>.
+     *
+     * @since 2.1.1
+     */
+    public List<String> listFormatLazy(final List<? extends Temporal> target) {
+        return utils().temporalListUtils.listFormatLazy(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public List<String> listFormatLazy(final List<? extends Temporal> target, final Locale locale) {
+        return utils().temporalListUtils.listFormatLazy(target, locale);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public List<String> listFormatLazy(final List<? extends Temporal> target, final String pattern) {
+        return utils().temporalListUtils.listFormatLazy(target, pattern);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public List<String> listFormatLazy(final List<? extends Temporal> target, final String pattern, final Locale locale) {
+        return utils().temporalListUtils.listFormatLazy(target, pattern, locale);
+    }
+
+    /**
+     * Formats the elements of an iterable, iterator or stream while they are iterated, without
+     * copying them into a collection first. <tt>th:each</tt> copies them anyway in Thymeleaf 2.1,
+     * so memory only stays constant with engines iterating without copying, as Thymeleaf 3.
+     *
+     * @since 2.1.1
+     */
+    public Iterable<String> iterableFormat(final Iterable<? extends Temporal> target) {
+        return utils().temporalIterableUtils.iterableFormat(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public Iterable<String> iterableFormat(final Iterable<? extends Temporal> target, final Locale locale) {
+        return utils().temporalIterableUtils.iterableFormat(target, locale);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public Iterable<String> iterableFormat(final Iterable<? extends Temporal> target, final String pattern) {
+        return utils().temporalIterableUtils.iterableFormat(target, pattern);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public Iterable<String> iterableFormat(final Iterable<? extends Temporal> target, final String pattern, final Locale locale) {
+        return utils().temporalIterableUtils.iterableFormat(target, pattern, locale);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public Iterable<String> iteratorFormat(final Iterator<? extends Temporal> target) {
+        return utils().temporalIterableUtils.iteratorFormat(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public Iterable<String> iteratorFormat(final Iterator<? extends Temporal> target, final Locale locale) {
+        return utils().temporalIterableUtils.iteratorFormat(target, locale);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public Iterable<String> iteratorFormat(final Iterator<? extends Temporal> target, final String pattern) {
+        return utils().temporalIterableUtils.iteratorFormat(target, pattern);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public Iterable<String> iteratorFormat(final Iterator<? extends Temporal> target, final String pattern, final Locale locale) {
+        return utils().temporalIterableUtils.iteratorFormat(target, pattern, locale);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public Iterable<String> streamFormat(final Stream<? extends Temporal> target) {
+        return utils().temporalIterableUtils.streamFormat(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public Iterable<String> streamFormat(final Stream<? extends Temporal> target, final Locale locale) {
+        return utils().temporalIterableUtils.streamFormat(target, locale);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public Iterable<String> streamFormat(final Stream<? extends Temporal> target, final String pattern) {
+        return utils().temporalIterableUtils.streamFormat(target, pattern);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public Iterable<String> streamFormat(final Stream<? extends Temporal> target, final String pattern, final Locale locale) {
+        return utils().temporalIterableUtils.streamFormat(target, pattern, locale);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public void formatTo(final Temporal target, final Appendable output) {
+        utils().temporalFormattingUtils.formatTo(target, output);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public void formatTo(final Temporal target, final String pattern, final Appendable output) {
+        utils().temporalFormattingUtils.formatTo(target, pattern, output);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public void formatTo(final Temporal target, final String pattern, final Locale locale, final Appendable output) {
+        utils().temporalFormattingUtils.formatTo(target, pattern, locale, output);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public void arrayFormatTo(final Object[] target, final String pattern, final String separator,
+            final Appendable output) {
+        utils().temporalArrayUtils.arrayFormatTo(target, pattern, separator, output);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public void listFormatTo(final List<? extends Temporal> target, final String pattern, final String separator,
+            final Appendable output) {
+        utils().temporalListUtils.listFormatTo(target, pattern, separator, output);
     }
 
     /**
@@ -311,7 +657,7 @@ public Set<String> setFormat(final Set<? extends Temporal> target, final String
      * @since 2.1.0
      */
     public Integer day(final Temporal target) {
-        return temporalFormattingUtils.day(target);
+        return utils().temporalFormattingUtils.day(target);
     }
 
     /**
@@ -319,7 +665,7 @@ public Integer day(final Temporal target) {
      * @since 2.1.0
      */
     public Integer[] arrayDay(final Object[] target) {
-        return temporalArrayUtils.arrayDay(target);
+        return utils().temporalArrayUtils.arrayDay(target);
     }
 
     /**
@@ -327,7 +673,7 @@ public Integer[] arrayDay(final Object[] target) {
      * @since 2.1.0
      */
     public List<Integer> listDay(final List<? extends Temporal> target) {
-        return temporalListUtils.listDay(target);
+        return utils().temporalListUtils.listDay(target);
     }
 
     /**
@@ -335,7 +681,31 @@ public List<Integer> listDay(final List<? extends Temporal> target) {
      * @since 2.1.0
      */
     public Set<Integer> setDay(final Set<? extends Temporal> target) {
-        return temporalSetUtils.setDay(target);
+        return utils().temporalSetUtils.setDay(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int dayInt(final Temporal target) {
+        return utils().temporalFormattingUtils.dayInt(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int[] arrayDayInt(final Object[] target) {
+        return utils().temporalArrayUtils.arrayDayInt(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int[] listDayInt(final List<? extends Temporal> target) {
+        return utils().temporalListUtils.listDayInt(target);
     }
 
     /**
@@ -343,7 +713,7 @@ public Set<Integer> setDay(final Set<? extends Temporal> target) {
      * @since 2.1.0
      */
     public Integer month(final Temporal target) {
-        return temporalFormattingUtils.month(target);
+        return utils().temporalFormattingUtils.month(target);
     }
 
     /**
@@ -351,7 +721,7 @@ public Integer month(final Temporal target) {
      * @since 2.1.0
      */
     public Integer[] arrayMonth(final Object[] target) {
-        return temporalArrayUtils.arrayMonth(target);
+        return utils().temporalArrayUtils.arrayMonth(target);
     }
 
     /**
@@ -359,7 +729,7 @@ public Integer[] arrayMonth(final Object[] target) {
      * @since 2.1.0
      */
     public List<Integer> listMonth(final List<? extends Temporal> target) {
-        return temporalListUtils.listMonth(target);
+        return utils().temporalListUtils.listMonth(target);
     }
 
     /**
@@ -367,7 +737,31 @@ public List<Integer> listMonth(final List<? extends Temporal> target) {
      * @since 2.1.0
      */
     public Set<Integer> setMonth(final Set<? extends Temporal> target) {
-        return temporalSetUtils.setMonth(target);
+        return utils().temporalSetUtils.setMonth(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int monthInt(final Temporal target) {
+        return utils().temporalFormattingUtils.monthInt(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int[] arrayMonthInt(final Object[] target) {
+        return utils().temporalArrayUtils.arrayMonthInt(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int[] listMonthInt(final List<? extends Temporal> target) {
+        return utils().temporalListUtils.listMonthInt(target);
     }
 
     /**
@@ -375,7 +769,7 @@ public Set<Integer> setMonth(final Set<? extends Temporal> target) {
      * @since 2.1.0
      */
     public String monthName(final Temporal target) {
-        return temporalFormattingUtils.monthName(target);
+        return utils().temporalFormattingUtils.monthName(target);
     }
 
     /**
@@ -383,7 +777,7 @@ public String monthName(final Temporal target) {
      * @since 2.1.0
      */
     public String[] arrayMonthName(final Object[] target) {
-        return temporalArrayUtils.arrayMonthName(target);
+        return utils().temporalArrayUtils.arrayMonthName(target);
     }
 
     /**
@@ -391,7 +785,7 @@ public String[] arrayMonthName(final Object[] target) {
      * @since 2.1.0
      */
     public List<String> listMonthName(final List<? extends Temporal> target) {
-        return temporalListUtils.listMonthName(target);
+        return utils().temporalListUtils.listMonthName(target);
     }
 
     /**
@@ -399,7 +793,7 @@ public List<String> listMonthName(final List<? extends Temporal> target) {
      * @since 2.1.0
      */
     public Set<String> setMonthName(final Set<? extends Temporal> target) {
-        return temporalSetUtils.setMonthName(target);
+        return utils().temporalSetUtils.setMonthName(target);
     }
 
     /**
@@ -407,7 +801,7 @@ public Set<String> setMonthName(final Set<? extends Temporal> target) {
      * @since 2.1.0
      */
     public String monthNameShort(final Temporal target) {
-        return temporalFormattingUtils.monthNameShort(target);
+        return utils().temporalFormattingUtils.monthNameShort(target);
     }
 
     /**
@@ -415,7 +809,7 @@ public String monthNameShort(final Temporal target) {
      * @since 2.1.0
      */
     public String[] arrayMonthNameShort(final Object[] target) {
-        return temporalArrayUtils.arrayMonthNameShort(target);
+        return utils().temporalArrayUtils.arrayMonthNameShort(target);
     }
 
     /**
@@ -423,7 +817,7 @@ public String[] arrayMonthNameShort(final Object[] target) {
      * @since 2.1.0
      */
     public List<String> listMonthNameShort(final List<? extends Temporal> target) {
-        return temporalListUtils.listMonthNameShort(target);
+        return utils().temporalListUtils.listMonthNameShort(target);
     }
 
     /**
@@ -431,7 +825,7 @@ public List<String> listMonthNameShort(final List<? extends Temporal> target) {
      * @since 2.1.0
      */
     public Set<String> setMonthNameShort(final Set<? extends Temporal> target) {
-        return temporalSetUtils.setMonthNameShort(target);
+        return utils().temporalSetUtils.setMonthNameShort(target);
     }
 
     /**
@@ -439,7 +833,7 @@ public Set<String> setMonthNameShort(final Set<? extends Temporal> target) {
      * @since 2.1.0
      */
     public Integer year(final Temporal target) {
-        return temporalFormattingUtils.year(target);
+        return utils().temporalFormattingUtils.year(target);
     }
 
     /**
@@ -447,7 +841,7 @@ public Integer year(final Temporal target) {
      * @since 2.1.0
      */
     public Integer[] arrayYear(final Object[] target) {
-        return temporalArrayUtils.arrayYear(target);
+        return utils().temporalArrayUtils.arrayYear(target);
     }
 
     /**
@@ -455,7 +849,7 @@ public Integer[] arrayYear(final Object[] target) {
      * @since 2.1.0
      */
     public List<Integer> listYear(final List<? extends Temporal> target) {
-        return temporalListUtils.listYear(target);
+        return utils().temporalListUtils.listYear(target);
     }
 
     /**
@@ -463,7 +857,31 @@ public List<Integer> listYear(final List<? extends Temporal> target) {
      * @since 2.1.0
      */
     public Set<Integer> setYear(final Set<? extends Temporal> target) {
-        return temporalSetUtils.setYear(target);
+        return utils().temporalSetUtils.setYear(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int yearInt(final Temporal target) {
+        return utils().temporalFormattingUtils.yearInt(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int[] arrayYearInt(final Object[] target) {
+        return utils().temporalArrayUtils.arrayYearInt(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int[] listYearInt(final List<? extends Temporal> target) {
+        return utils().temporalListUtils.listYearInt(target);
     }
 
     /**
@@ -471,7 +889,7 @@ public Set<Integer> setYear(final Set<? extends Temporal> target) {
      * @since 2.1.0
      */
     public Integer dayOfWeek(final Temporal target) {
-        return temporalFormattingUtils.dayOfWeek(target);
+        return utils().temporalFormattingUtils.dayOfWeek(target);
     }
 
     /**
@@ -479,7 +897,7 @@ public Integer dayOfWeek(final Temporal target) {
      * @since 2.1.0
      */
     public Integer[] arrayDayOfWeek(final Object[] target) {
-        return temporalArrayUtils.arrayDayOfWeek(target);
+        return utils().temporalArrayUtils.arrayDayOfWeek(target);
     }
 
     /**
@@ -487,7 +905,7 @@ public Integer[] arrayDayOfWeek(final Object[] target) {
      * @since 2.1.0
      */
     public List<Integer> listDayOfWeek(final List<? extends Temporal> target) {
-        return temporalListUtils.listDayOfWeek(target);
+        return utils().temporalListUtils.listDayOfWeek(target);
     }
 
     /**
@@ -495,7 +913,31 @@ public List<Integer> listDayOfWeek(final List<? extends Temporal> target) {
      * @since 2.1.0
      */
     public Set<Integer> setDayOfWeek(final Set<? extends Temporal> target) {
-        return temporalSetUtils.setDayOfWeek(target);
+        return utils().temporalSetUtils.setDayOfWeek(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int dayOfWeekInt(final Temporal target) {
+        return utils().temporalFormattingUtils.dayOfWeekInt(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int[] arrayDayOfWeekInt(final Object[] target) {
+        return utils().temporalArrayUtils.arrayDayOfWeekInt(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int[] listDayOfWeekInt(final List<? extends Temporal> target) {
+        return utils().temporalListUtils.listDayOfWeekInt(target);
     }
 
     /**
@@ -503,7 +945,7 @@ public Set<Integer> setDayOfWeek(final Set<? extends Temporal> target) {
      * @since 2.1.0
      */
     public String dayOfWeekName(final Temporal target) {
-        return temporalFormattingUtils.dayOfWeekName(target);
+        return utils().temporalFormattingUtils.dayOfWeekName(target);
     }
 
     /**
@@ -511,7 +953,7 @@ public String dayOfWeekName(final Temporal target) {
      * @since 2.1.0
      */
     public String[] arrayDayOfWeekName(final Object[] target) {
-        return temporalArrayUtils.arrayDayOfWeekName(target);
+        return utils().temporalArrayUtils.arrayDayOfWeekName(target);
     }
 
     /**
@@ -519,7 +961,7 @@ public String[] arrayDayOfWeekName(final Object[] target) {
      * @since 2.1.0
      */
     public List<String> listDayOfWeekName(final List<? extends Temporal> target) {
-        return temporalListUtils.listDayOfWeekName(target);
+        return utils().temporalListUtils.listDayOfWeekName(target);
     }
 
     /**
@@ -527,7 +969,7 @@ public List<String> listDayOfWeekName(final List<? extends Temporal> target) {
      * @since 2.1.0
      */
     public Set<String> setDayOfWeekName(final Set<? extends Temporal> target) {
-        return temporalSetUtils.setDayOfWeekName(target);
+        return utils().temporalSetUtils.setDayOfWeekName(target);
     }
 
     /**
@@ -535,7 +977,7 @@ public Set<String> setDayOfWeekName(final Set<? extends Temporal> target) {
      * @since 2.1.0
      */
     public String dayOfWeekNameShort(final Temporal target) {
-        return temporalFormattingUtils.dayOfWeekNameShort(target);
+        return utils().temporalFormattingUtils.dayOfWeekNameShort(target);
     }
 
     /**
@@ -543,7 +985,7 @@ public String dayOfWeekNameShort(final Temporal target) {
      * @since 2.1.0
      */
     public String[] arrayDayOfWeekNameShort(final Object[] target) {
-        return temporalArrayUtils.arrayDayOfWeekNameShort(target);
+        return utils().temporalArrayUtils.arrayDayOfWeekNameShort(target);
     }
 
     /**
@@ -551,7 +993,7 @@ public String[] arrayDayOfWeekNameShort(final Object[] target) {
      * @since 2.1.0
      */
     public List<String> listDayOfWeekNameShort(final List<? extends Temporal> target) {
-        return temporalListUtils.listDayOfWeekNameShort(target);
+        return utils().temporalListUtils.listDayOfWeekNameShort(target);
     }
 
     /**
@@ -559,7 +1001,7 @@ public List<String> listDayOfWeekNameShort(final List<? extends Temporal> target
      * @since 2.1.0
      */
     public Set<String> setDayOfWeekNameShort(final Set<? extends Temporal> target) {
-        return temporalSetUtils.setDayOfWeekNameShort(target);
+        return utils().temporalSetUtils.setDayOfWeekNameShort(target);
     }
 
     /**
@@ -567,7 +1009,7 @@ public Set<String> setDayOfWeekNameShort(final Set<? extends Temporal> target) {
      * @since 2.1.0
      */
     public Integer hour(final Temporal target) {
-        return temporalFormattingUtils.hour(target);
+        return utils().temporalFormattingUtils.hour(target);
     }
 
     /**
@@ -575,7 +1017,7 @@ public Integer hour(final Temporal target) {
      * @since 2.1.0
      */
     public Integer[] arrayHour(final Object[] target) {
-        return temporalArrayUtils.arrayHour(target);
+        return utils().temporalArrayUtils.arrayHour(target);
     }
 
     /**
@@ -583,7 +1025,7 @@ public Integer[] arrayHour(final Object[] target) {
      * @since 2.1.0
      */
     public List<Integer> listHour(final List<? extends Temporal> target) {
-        return temporalListUtils.listHour(target);
+        return utils().temporalListUtils.listHour(target);
     }
 
     /**
@@ -591,7 +1033,31 @@ public List<Integer> listHour(final List<? extends Temporal> target) {
      * @since 2.1.0
      */
     public Set<Integer> setHour(final Set<? extends Temporal> target) {
-        return temporalSetUtils.setHour(target);
+        return utils().temporalSetUtils.setHour(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int hourInt(final Temporal target) {
+        return utils().temporalFormattingUtils.hourInt(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int[] arrayHourInt(final Object[] target) {
+        return utils().temporalArrayUtils.arrayHourInt(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int[] listHourInt(final List<? extends Temporal> target) {
+        return utils().temporalListUtils.listHourInt(target);
     }
 
     /**
@@ -599,7 +1065,7 @@ public Set<Integer> setHour(final Set<? extends Temporal> target) {
      * @since 2.1.0
      */
     public Integer minute(final Temporal target) {
-        return temporalFormattingUtils.minute(target);
+        return utils().temporalFormattingUtils.minute(target);
     }
 
     /**
@@ -607,7 +1073,7 @@ public Integer minute(final Temporal target) {
      * @since 2.1.0
      */
     public Integer[] arrayMinute(final Object[] target) {
-        return temporalArrayUtils.arrayMinute(target);
+        return utils().temporalArrayUtils.arrayMinute(target);
     }
 
     /**
@@ -615,7 +1081,7 @@ public Integer[] arrayMinute(final Object[] target) {
      * @since 2.1.0
      */
     public List<Integer> listMinute(final List<? extends Temporal> target) {
-        return temporalListUtils.listMinute(target);
+        return utils().temporalListUtils.listMinute(target);
     }
 
     /**
@@ -623,7 +1089,31 @@ public List<Integer> listMinute(final List<? extends Temporal> target) {
      * @since 2.1.0
      */
     public Set<Integer> setMinute(final Set<? extends Temporal> target) {
-        return temporalSetUtils.setMinute(target);
+        return utils().temporalSetUtils.setMinute(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int minuteInt(final Temporal target) {
+        return utils().temporalFormattingUtils.minuteInt(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int[] arrayMinuteInt(final Object[] target) {
+        return utils().temporalArrayUtils.arrayMinuteInt(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int[] listMinuteInt(final List<? extends Temporal> target) {
+        return utils().temporalListUtils.listMinuteInt(target);
     }
 
     /**
@@ -631,7 +1121,7 @@ public Set<Integer> setMinute(final Set<? extends Temporal> target) {
      * @since 2.1.0
      */
     public Integer second(final Temporal target) {
-        return temporalFormattingUtils.second(target);
+        return utils().temporalFormattingUtils.second(target);
     }
 
     /**
@@ -639,7 +1129,7 @@ public Integer second(final Temporal target) {
      * @since 2.1.0
      */
     public Integer[] arraySecond(final Object[] target) {
-        return temporalArrayUtils.arraySecond(target);
+        return utils().temporalArrayUtils.arraySecond(target);
     }
 
     /**
@@ -647,7 +1137,7 @@ public Integer[] arraySecond(final Object[] target) {
      * @since 2.1.0
      */
     public List<Integer> listSecond(final List<? extends Temporal> target) {
-        return temporalListUtils.listSecond(target);
+        return utils().temporalListUtils.listSecond(target);
     }
 
     /**
@@ -655,7 +1145,31 @@ public List<Integer> listSecond(final List<? extends Temporal> target) {
      * @since 2.1.0
      */
     public Set<Integer> setSecond(final Set<? extends Temporal> target) {
-        return temporalSetUtils.setSecond(target);
+        return utils().temporalSetUtils.setSecond(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int secondInt(final Temporal target) {
+        return utils().temporalFormattingUtils.secondInt(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int[] arraySecondInt(final Object[] target) {
+        return utils().temporalArrayUtils.arraySecondInt(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int[] listSecondInt(final List<? extends Temporal> target) {
+        return utils().temporalListUtils.listSecondInt(target);
     }
 
     /**
@@ -663,7 +1177,7 @@ public Set<Integer> setSecond(final Set<? extends Temporal> target) {
      * @since 2.1.0
      */
     public Integer nanosecond(final Temporal target) {
-        return temporalFormattingUtils.nanosecond(target);
+        return utils().temporalFormattingUtils.nanosecond(target);
     }
 
     /**
@@ -671,7 +1185,7 @@ public Integer nanosecond(final Temporal target) {
      * @since 2.1.0
      */
     public Integer[] arrayNanosecond(final Object[] target) {
-        return temporalArrayUtils.arrayNanosecond(target);
+        return utils().temporalArrayUtils.arrayNanosecond(target);
     }
 
     /**
@@ -679,7 +1193,7 @@ public Integer[] arrayNanosecond(final Object[] target) {
      * @since 2.1.0
      */
     public List<Integer> listNanosecond(final List<? extends Temporal> target) {
-        return temporalListUtils.listNanosecond(target);
+        return utils().temporalListUtils.listNanosecond(target);
     }
 
     /**
@@ -687,7 +1201,31 @@ public List<Integer> listNanosecond(final List<? extends Temporal> target) {
      * @since 2.1.0
      */
     public Set<Integer> setNanosecond(final Set<? extends Temporal> target) {
-        return temporalSetUtils.setNanosecond(target);
+        return utils().temporalSetUtils.setNanosecond(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int nanosecondInt(final Temporal target) {
+        return utils().temporalFormattingUtils.nanosecondInt(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int[] arrayNanosecondInt(final Object[] target) {
+        return utils().temporalArrayUtils.arrayNanosecondInt(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public int[] listNanosecondInt(final List<? extends Temporal> target) {
+        return utils().temporalListUtils.listNanosecondInt(target);
     }
 
     /**
@@ -695,7 +1233,15 @@ public Set<Integer> setNanosecond(final Set<? extends Temporal> target) {
      * @since 2.1.0
      */
     public String formatISO(final Temporal target) {
-        return temporalFormattingUtils.formatISO(target);
+        return utils().temporalFormattingUtils.formatISO(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public void formatISOTo(final Temporal target, final Appendable output) {
+        utils().temporalFormattingUtils.formatISOTo(target, output);
     }
 
     /**
@@ -703,7 +1249,7 @@ public String formatISO(final Temporal target) {
      * @since 2.1.0
      */
     public String[] arrayFormatISO(final Object[] target) {
-        return temporalArrayUtils.arrayFormatISO(target);
+        return utils().temporalArrayUtils.arrayFormatISO(target);
     }
 
     /**
@@ -711,7 +1257,7 @@ public String[] arrayFormatISO(final Object[] target) {
      * @since 2.1.0
      */
     public List<String> listFormatISO(final List<? extends Temporal> target) {
-        return temporalListUtils.listFormatISO(target);
+        return utils().temporalListUtils.listFormatISO(target);
     }
 
     /**
@@ -719,7 +1265,158 @@ public List<String> listFormatISO(final List<? extends Temporal> target) {
      * @since 2.1.0
      */
     public Set<String> setFormatISO(final Set<? extends Temporal> target) {
-        return temporalSetUtils.setFormatISO(target);
+        return utils().temporalSetUtils.setFormatISO(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public String formatISOLocalDate(final Temporal target) {
+        return utils().temporalFormattingUtils.formatISOLocalDate(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public String[] arrayFormatISOLocalDate(final Object[] target) {
+        return utils().temporalArrayUtils.arrayFormatISOLocalDate(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public List<String> listFormatISOLocalDate(final List<? extends Temporal> target) {
+        return utils().temporalListUtils.listFormatISOLocalDate(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public Set<String> setFormatISOLocalDate(final Set<? extends Temporal> target) {
+        return utils().temporalSetUtils.setFormatISOLocalDate(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public String formatISOLocalDateTime(final Temporal target) {
+        return utils().temporalFormattingUtils.formatISOLocalDateTime(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public String[] arrayFormatISOLocalDateTime(final Object[] target) {
+        return utils().temporalArrayUtils.arrayFormatISOLocalDateTime(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public List<String> listFormatISOLocalDateTime(final List<? extends Temporal> target) {
+        return utils().temporalListUtils.listFormatISOLocalDateTime(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public Set<String> setFormatISOLocalDateTime(final Set<? extends Temporal> target) {
+        return utils().temporalSetUtils.setFormatISOLocalDateTime(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public String formatISOInstant(final Temporal target) {
+        return utils().temporalFormattingUtils.formatISOInstant(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public String[] arrayFormatISOInstant(final Object[] target) {
+        return utils().temporalArrayUtils.arrayFormatISOInstant(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public List<String> listFormatISOInstant(final List<? extends Temporal> target) {
+        return utils().temporalListUtils.listFormatISOInstant(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public Set<String> setFormatISOInstant(final Set<? extends Temporal> target) {
+        return utils().temporalSetUtils.setFormatISOInstant(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public String formatRFC1123(final Temporal target) {
+        return utils().temporalFormattingUtils.formatRFC1123(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public String[] arrayFormatRFC1123(final Object[] target) {
+        return utils().temporalArrayUtils.arrayFormatRFC1123(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public List<String> listFormatRFC1123(final List<? extends Temporal> target) {
+        return utils().temporalListUtils.listFormatRFC1123(target);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public Set<String> setFormatRFC1123(final Set<? extends Temporal> target) {
+        return utils().temporalSetUtils.setFormatRFC1123(target);
+    }
+
+
+    private static final class Utils {
+
+        private final TemporalCreationUtils temporalCreationUtils;
+        private final TemporalFormattingUtils temporalFormattingUtils;
+        private final TemporalArrayUtils temporalArrayUtils;
+        private final TemporalListUtils temporalListUtils;
+        private final TemporalSetUtils temporalSetUtils;
+        private final TemporalIterableUtils temporalIterableUtils;
+
+        Utils(final Locale locale, final ZoneId defaultZoneId, final Clock clock) {
+            super();
+            this.temporalCreationUtils = new TemporalCreationUtils(clock);
+            // All the utils are immutable, so they can share a single formatting core
+            this.temporalFormattingUtils = new TemporalFormattingUtils(locale, defaultZoneId);
+            this.temporalArrayUtils = new TemporalArrayUtils(this.temporalFormattingUtils);
+            this.temporalListUtils = new TemporalListUtils(this.temporalFormattingUtils);
+            this.temporalSetUtils = new TemporalSetUtils(this.temporalFormattingUtils);
+            this.temporalIterableUtils = new TemporalIterableUtils(this.temporalFormattingUtils);
+        }
+
     }
 
 }
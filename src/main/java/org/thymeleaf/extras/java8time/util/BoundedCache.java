@@ -0,0 +1,131 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2011-2014, The THYMELEAF team (http://www.thymeleaf.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import org.thymeleaf.util.Validate;
+
+/**
+ * <p>
+ * Thread-safe, size-bounded cache used for sharing expensive objects (formatters, parsers...)
+ * among all the <tt>#temporals</tt> instances of a JVM.
+ * </p>
+ * <p>
+ * Reads are lock-free. When the maximum size is exceeded, the oldest entries are evicted
+ * in insertion order, in the same way Thymeleaf's own template caches do.
+ * </p>
+ *
+ * @author Jos&eacute; Miguel Samper
+ *
+ * @since 2.1.1
+ */
+public final class BoundedCache<K, V> {
+
+    private final ConcurrentHashMap<K, V> entries;
+    private final Queue<K> insertionOrder;
+    private volatile int maxSize;
+
+    public BoundedCache(final int maxSize) {
+        super();
+        Validate.isTrue(maxSize > 0, "Maximum size must be greater than zero");
+        this.entries = new ConcurrentHashMap<>();
+        this.insertionOrder = new ConcurrentLinkedQueue<>();
+        this.maxSize = maxSize;
+    }
+
+    public V get(final K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Returns the value cached for the key, computing and caching it if absent. Two threads
+     * missing on the same key at the same time may both compute the value, but only one of
+     * them is kept.
+     */
+    public V computeIfAbsent(final K key, final Function<? super K, ? extends V> mappingFunction) {
+        final V cached = entries.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final V value = mappingFunction.apply(key);
+        final V previous = entries.putIfAbsent(key, value);
+        if (previous != null) {
+            return previous;
+        }
+        insertionOrder.offer(key);
+        evictIfNeeded();
+        return value;
+    }
+
+    /**
+     * Caches the value for the key, replacing any previous value.
+     */
+    public void put(final K key, final V value) {
+        if (entries.put(key, value) == null) {
+            insertionOrder.offer(key);
+            evictIfNeeded();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(final int maxSize) {
+        Validate.isTrue(maxSize > 0, "Maximum size must be greater than zero");
+        this.maxSize = maxSize;
+        evictIfNeeded();
+    }
+
+    public void clear() {
+        entries.clear();
+        insertionOrder.clear();
+    }
+
+    /*
+     * The queue and the map are not updated atomically, so a clear() running at the same time as
+     * an insertion can leave entries the queue does not know about. Those are evicted in map order
+     * once the queue is exhausted, so that the cache never stays over its maximum size.
+     */
+    private void evictIfNeeded() {
+        while (entries.size() > maxSize) {
+            final K eldest = insertionOrder.poll();
+            if (eldest != null) {
+                entries.remove(eldest);
+                continue;
+            }
+            final Iterator<K> keys = entries.keySet().iterator();
+            if (!keys.hasNext()) {
+                return;
+            }
+            keys.next();
+            keys.remove();
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2011-2014, The THYMELEAF team (http://www.thymeleaf.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Key of the shared caches of objects built from a pattern, a locale and an (optional) zone.
+ *
+ * @author Jos&eacute; Miguel Samper
+ *
+ * @since 2.1.1
+ */
+final class PatternKey {
+
+    final String pattern;
+    final Locale locale;
+    final ZoneId zoneId;
+    private final int hashCode;
+
+    PatternKey(final String pattern, final Locale locale, final ZoneId zoneId) {
+        super();
+        this.pattern = pattern;
+        this.locale = locale;
+        this.zoneId = zoneId;
+        this.hashCode = Objects.hash(pattern, locale, zoneId);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PatternKey)) {
+            return false;
+        }
+        final PatternKey other = (PatternKey) o;
+        return pattern.equals(other.pattern) && locale.equals(other.locale)
+            && Objects.equals(zoneId, other.zoneId);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+}
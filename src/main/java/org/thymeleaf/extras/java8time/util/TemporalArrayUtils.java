@@ -19,11 +19,12 @@
  */
 package org.thymeleaf.extras.java8time.util;
 
-import java.lang.reflect.Array;
 import java.time.ZoneId;
 import java.util.Locale;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
-import java.util.stream.Stream;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 import org.thymeleaf.util.Validate;
 
 
@@ -45,79 +46,245 @@ public TemporalArrayUtils(final Locale locale, final ZoneId defaultZoneId) {
         temporalFormattingUtils = new TemporalFormattingUtils(locale, defaultZoneId);
     }
 
+    /**
+     * Creates an instance sharing the formatting utils, which are immutable and thread-safe.
+     *
+     * @since 2.1.1
+     */
+    public TemporalArrayUtils(final TemporalFormattingUtils temporalFormattingUtils) {
+        super();
+        Validate.notNull(temporalFormattingUtils, "Formatting utils cannot be null");
+        this.temporalFormattingUtils = temporalFormattingUtils;
+    }
+
     public String[] arrayFormat(final Object[] target) {
-        return arrayFormat(target, temporalFormattingUtils::format, String.class);
+        return arrayFormatStrings(target, () -> temporalFormattingUtils::format);
     }
 
     public String[] arrayFormat(final Object[] target, final Locale locale) {
-        return arrayFormat(target, time -> temporalFormattingUtils.format(time, locale), String.class);
+        return arrayFormatStrings(target, () -> time -> temporalFormattingUtils.format(time, locale));
     }
 
     public String[] arrayFormat(final Object[] target, final String pattern) {
-        return arrayFormat(target, time -> temporalFormattingUtils.format(time, pattern), String.class);
+        return arrayFormatStrings(target, () -> temporalFormattingUtils.seriesFormat(pattern, null));
     }
 
     public String[] arrayFormat(final Object[] target, final String pattern, final Locale locale) {
-        return arrayFormat(target, time -> temporalFormattingUtils.format(time, pattern, locale), String.class);
+        return arrayFormatStrings(target, () -> temporalFormattingUtils.seriesFormat(pattern, locale));
+    }
+
+    /**
+     * Formats epoch milliseconds as the date and time of each instant in the default zone,
+     * without creating a Java 8 Time object for each of them.
+     *
+     * @since 2.1.1
+     */
+    public String[] arrayFormatEpochMillis(final long[] target, final String pattern) {
+        return temporalFormattingUtils.formatEpochMillis(target, pattern, null);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public String[] arrayFormatEpochMillis(final long[] target, final String pattern, final ZoneId zoneId) {
+        Validate.notNull(zoneId, "ZoneId cannot be null");
+        return temporalFormattingUtils.formatEpochMillis(target, pattern, zoneId);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public String[] arrayFormatEpochSeconds(final long[] target, final String pattern) {
+        return temporalFormattingUtils.formatEpochSeconds(target, pattern, null);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public String[] arrayFormatEpochSeconds(final long[] target, final String pattern, final ZoneId zoneId) {
+        Validate.notNull(zoneId, "ZoneId cannot be null");
+        return temporalFormattingUtils.formatEpochSeconds(target, pattern, zoneId);
+    }
+
+    /**
+     * Formats epoch days as dates, without creating a Java 8 Time object for each of them.
+     *
+     * @since 2.1.1
+     */
+    public String[] arrayFormatEpochDays(final int[] target, final String pattern) {
+        return temporalFormattingUtils.formatEpochDays(target, pattern);
+    }
+
+    public void arrayFormatTo(final Object[] target, final String separator, final Appendable output) {
+        arrayFormatTo(target, separator, output, temporalFormattingUtils::formatTo);
+    }
+
+    public void arrayFormatTo(
+            final Object[] target, final String pattern, final String separator, final Appendable output) {
+        arrayFormatTo(target, separator, output, (time, out) -> temporalFormattingUtils.formatTo(time, pattern, out));
+    }
+
+    public void arrayFormatTo(final Object[] target, final String pattern, final Locale locale,
+            final String separator, final Appendable output) {
+        arrayFormatTo(target, separator, output,
+            (time, out) -> temporalFormattingUtils.formatTo(time, pattern, locale, out));
     }
 
     public Integer[] arrayDay(final Object[] target) {
-        return arrayFormat(target, temporalFormattingUtils::day, Integer.class);
+        return arrayInteger(target, temporalFormattingUtils::dayInt);
+    }
+
+    public int[] arrayDayInt(final Object[] target) {
+        return arrayInt(target, temporalFormattingUtils::dayInt);
     }
 
     public Integer[] arrayMonth(final Object[] target) {
-        return arrayFormat(target, temporalFormattingUtils::month, Integer.class);
+        return arrayInteger(target, temporalFormattingUtils::monthInt);
+    }
+
+    public int[] arrayMonthInt(final Object[] target) {
+        return arrayInt(target, temporalFormattingUtils::monthInt);
     }
 
     public String[] arrayMonthName(final Object[] target) {
-        return arrayFormat(target, temporalFormattingUtils::monthName, String.class);
+        return arrayString(target, temporalFormattingUtils::monthName);
     }
 
     public String[] arrayMonthNameShort(final Object[] target) {
-        return arrayFormat(target, temporalFormattingUtils::monthNameShort, String.class);
+        return arrayString(target, temporalFormattingUtils::monthNameShort);
     }
     
     public Integer[] arrayYear(final Object[] target) {
-        return arrayFormat(target, temporalFormattingUtils::year, Integer.class);
+        return arrayInteger(target, temporalFormattingUtils::yearInt);
+    }
+
+    public int[] arrayYearInt(final Object[] target) {
+        return arrayInt(target, temporalFormattingUtils::yearInt);
     }
     
     public Integer[] arrayDayOfWeek(final Object[] target) {
-        return arrayFormat(target, temporalFormattingUtils::dayOfWeek, Integer.class);
+        return arrayInteger(target, temporalFormattingUtils::dayOfWeekInt);
+    }
+
+    public int[] arrayDayOfWeekInt(final Object[] target) {
+        return arrayInt(target, temporalFormattingUtils::dayOfWeekInt);
     }
     
     public String[] arrayDayOfWeekName(final Object[] target) {
-        return arrayFormat(target, temporalFormattingUtils::dayOfWeekName, String.class);
+        return arrayString(target, temporalFormattingUtils::dayOfWeekName);
     }
 
     public String[] arrayDayOfWeekNameShort(final Object[] target) {
-        return arrayFormat(target, temporalFormattingUtils::dayOfWeekNameShort, String.class);
+        return arrayString(target, temporalFormattingUtils::dayOfWeekNameShort);
     }
 
     public Integer[] arrayHour(final Object[] target) {
-        return arrayFormat(target, temporalFormattingUtils::hour, Integer.class);
+        return arrayInteger(target, temporalFormattingUtils::hourInt);
+    }
+
+    public int[] arrayHourInt(final Object[] target) {
+        return arrayInt(target, temporalFormattingUtils::hourInt);
     }
 
     public Integer[] arrayMinute(final Object[] target) {
-        return arrayFormat(target, temporalFormattingUtils::minute, Integer.class);
+        return arrayInteger(target, temporalFormattingUtils::minuteInt);
+    }
+
+    public int[] arrayMinuteInt(final Object[] target) {
+        return arrayInt(target, temporalFormattingUtils::minuteInt);
     }
 
     public Integer[] arraySecond(final Object[] target) {
-        return arrayFormat(target, temporalFormattingUtils::second, Integer.class);
+        return arrayInteger(target, temporalFormattingUtils::secondInt);
+    }
+
+    public int[] arraySecondInt(final Object[] target) {
+        return arrayInt(target, temporalFormattingUtils::secondInt);
     }
 
     public Integer[] arrayNanosecond(final Object[] target) {
-        return arrayFormat(target, temporalFormattingUtils::nanosecond, Integer.class);
+        return arrayInteger(target, temporalFormattingUtils::nanosecondInt);
+    }
+
+    public int[] arrayNanosecondInt(final Object[] target) {
+        return arrayInt(target, temporalFormattingUtils::nanosecondInt);
     }
 
     public String[] arrayFormatISO(final Object[] target) {
-        return arrayFormat(target, temporalFormattingUtils::formatISO, String.class);
+        return arrayString(target, temporalFormattingUtils::formatISO);
+    }
+
+    public String[] arrayFormatISOLocalDate(final Object[] target) {
+        return arrayString(target, temporalFormattingUtils::formatISOLocalDate);
+    }
+
+    public String[] arrayFormatISOLocalDateTime(final Object[] target) {
+        return arrayString(target, temporalFormattingUtils::formatISOLocalDateTime);
+    }
+
+    public String[] arrayFormatISOInstant(final Object[] target) {
+        return arrayString(target, temporalFormattingUtils::formatISOInstant);
+    }
+
+    public String[] arrayFormatRFC1123(final Object[] target) {
+        return arrayString(target, temporalFormattingUtils::formatRFC1123);
+    }
+
+    /*
+     * Formatting functions may keep state, so they are obtained from a supplier, once for the
+     * whole array or once for each chunk of it when it is formatted in parallel. Each of them
+     * formats the distinct values it is given only once.
+     */
+    private String[] arrayFormatStrings(
+            final Object[] target, final Supplier<Function<Object, String>> formatFunctions) {
+        Validate.notNull(target, "Target cannot be null");
+        if (TemporalParallelFormatter.isParallel(target.length)) {
+            return TemporalParallelFormatter.format(target,
+                () -> TemporalDistinctFormatter.forBatch(formatFunctions.get(), target.length));
+        }
+        return arrayString(target, TemporalDistinctFormatter.forBatch(formatFunctions.get(), target.length));
+    }
+
+    private String[] arrayString(final Object[] target, final Function<Object, String> formatFunction) {
+        Validate.notNull(target, "Target cannot be null");
+        final String[] result = new String[target.length];
+        for (int i = 0; i < target.length; i++) {
+            result[i] = formatFunction.apply(target[i]);
+        }
+        return result;
+    }
+
+    private Integer[] arrayInteger(final Object[] target, final ToIntFunction<Object> mapFunction) {
+        Validate.notNull(target, "Target cannot be null");
+        final Integer[] result = new Integer[target.length];
+        for (int i = 0; i < target.length; i++) {
+            result[i] = Integer.valueOf(mapFunction.applyAsInt(target[i]));
+        }
+        return result;
+    }
+
+    private int[] arrayInt(final Object[] target, final ToIntFunction<Object> mapFunction) {
+        Validate.notNull(target, "Target cannot be null");
+        final int[] result = new int[target.length];
+        for (int i = 0; i < target.length; i++) {
+            result[i] = mapFunction.applyAsInt(target[i]);
+        }
+        return result;
     }
 
-    private <R extends Object> R[] arrayFormat(
-            final Object[] target, final Function<Object, R> mapFunction, final Class<R> returnType) {
+    private void arrayFormatTo(final Object[] target, final String separator, final Appendable output,
+            final BiConsumer<Object, Appendable> formatFunction) {
         Validate.notNull(target, "Target cannot be null");
-        return Stream.of(target)
-            .map(time -> mapFunction.apply(time))
-            .toArray(length -> (R[]) Array.newInstance(returnType, length));
+        Validate.notNull(separator, "Separator cannot be null");
+        Validate.notNull(output, "Output cannot be null");
+        for (int i = 0; i < target.length; i++) {
+            if (i > 0) {
+                TemporalFormattingUtils.append(separator, output);
+            }
+            formatFunction.accept(target[i], output);
+        }
     }
 }
@@ -0,0 +1,199 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2011-2014, The THYMELEAF team (http://www.thymeleaf.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.thymeleaf.util.Validate;
+
+/**
+ * <p>
+ * Clock whose current instant is only refreshed once per resolution (every millisecond, for
+ * example) by a background daemon thread, so that reading it costs a volatile read instead of a
+ * call to the system clock. Useful for renders creating many <tt>now</tt> or <tt>today</tt>
+ * objects, at the price of being up to one resolution late.
+ * </p>
+ * <pre>
+ *   Java8TimeDialectConfiguration.builder()
+ *       .clock(TemporalCoarseClock.of(Duration.ofMillis(1), ZoneId.systemDefault()))
+ *       .build();
+ * </pre>
+ * <p>
+ * All the coarse clocks of the same resolution share their instant, and all of them are
+ * refreshed by a single thread. For deterministic output, use a fixed clock instead
+ * ({@link Clock#fixed(Instant, ZoneId)}).
+ * </p>
+ * <p>
+ * Resolutions are never released: the instant of a resolution keeps being refreshed from the
+ * creation of its first clock, even when none of its clocks is used any more, so applications
+ * should stick to a few fixed resolutions. {@link TemporalObjects#shutdown()} stops the refresh
+ * thread when the application is undeployed; clocks created before then read the system clock
+ * from that moment on.
+ * </p>
+ *
+ * @author Jos&eacute; Miguel Samper
+ *
+ * @since 2.1.1
+ */
+public final class TemporalCoarseClock extends Clock {
+
+    private static final ConcurrentMap<Long, Ticker> TICKERS = new ConcurrentHashMap<>();
+    private static ScheduledExecutorService scheduler = null;
+
+    private final Ticker ticker;
+    private final ZoneId zone;
+
+    private TemporalCoarseClock(final Ticker ticker, final ZoneId zone) {
+        super();
+        this.ticker = ticker;
+        this.zone = zone;
+    }
+
+    /**
+     * @param resolution the period between refreshes of the current instant, of one millisecond
+     *        or more
+     * @param zone the zone of the clock
+     * @return a coarse clock
+     */
+    public static TemporalCoarseClock of(final Duration resolution, final ZoneId zone) {
+        Validate.notNull(resolution, "Resolution cannot be null");
+        Validate.notNull(zone, "ZoneId cannot be null");
+        Validate.isTrue(resolution.toMillis() >= 1, "Resolution must be one millisecond or more");
+        final Long key = Long.valueOf(resolution.toNanos());
+        Ticker ticker = TICKERS.get(key);
+        if (ticker == null) {
+            synchronized (TICKERS) {
+                ticker = TICKERS.get(key);
+                if (ticker == null) {
+                    ticker = new Ticker();
+                    scheduler().scheduleAtFixedRate(ticker, key.longValue(), key.longValue(), TimeUnit.NANOSECONDS);
+                    TICKERS.put(key, ticker);
+                }
+            }
+        }
+        return new TemporalCoarseClock(ticker, zone);
+    }
+
+    /*
+     * Stops refreshing the instants of all the resolutions and ends the refresh thread. Clocks
+     * created afterwards start it again.
+     */
+    static void shutdown() {
+        synchronized (TICKERS) {
+            for (final Ticker ticker : TICKERS.values()) {
+                ticker.stopped = true;
+            }
+            TICKERS.clear();
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+                scheduler = null;
+            }
+        }
+    }
+
+    private static ScheduledExecutorService scheduler() {
+        // Only called while holding the lock of the tickers
+        if (scheduler == null) {
+            final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                final Thread thread = new Thread(runnable, "thymeleaf-java8time-coarse-clock");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            scheduler = executor;
+        }
+        return scheduler;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(final ZoneId newZone) {
+        Validate.notNull(newZone, "ZoneId cannot be null");
+        if (newZone.equals(zone)) {
+            return this;
+        }
+        return new TemporalCoarseClock(ticker, newZone);
+    }
+
+    @Override
+    public Instant instant() {
+        return ticker.instant();
+    }
+
+    @Override
+    public long millis() {
+        return ticker.instant().toEpochMilli();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof TemporalCoarseClock)) {
+            return false;
+        }
+        final TemporalCoarseClock other = (TemporalCoarseClock) obj;
+        return ticker == other.ticker && zone.equals(other.zone);
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(ticker) ^ zone.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "TemporalCoarseClock[" + zone + "]";
+    }
+
+
+    /*
+     * Current instant of the clocks of one resolution. The instant object is created once per
+     * refresh, not once per read. Once stopped, the system clock is read instead.
+     */
+    private static final class Ticker implements Runnable {
+
+        private volatile Instant instant = Instant.now();
+        private volatile boolean stopped = false;
+
+        Instant instant() {
+            return stopped ? Instant.now() : instant;
+        }
+
+        @Override
+        public void run() {
+            instant = Instant.now();
+        }
+
+    }
+
+}
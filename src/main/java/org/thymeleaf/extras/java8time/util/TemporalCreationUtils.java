@@ -19,13 +19,14 @@
  */
 package org.thymeleaf.extras.java8time.util;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.Temporal;
-import java.util.TimeZone;
+import java.util.Locale;
 import org.thymeleaf.util.EvaluationUtil;
 import org.thymeleaf.util.Validate;
 
@@ -39,8 +40,30 @@
  */
 public final class TemporalCreationUtils {
 
+    private final Clock clock;
+
     public TemporalCreationUtils() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     *
+     * @param clock the clock used for obtaining the current date and time
+     * @since 2.1.1
+     */
+    public TemporalCreationUtils(final Clock clock) {
         super();
+        Validate.notNull(clock, "Clock cannot be null");
+        this.clock = clock;
+    }
+
+    /**
+     *
+     * @return the clock used for obtaining the current date and time
+     * @since 2.1.1
+     */
+    public Clock getClock() {
+        return clock;
     }
     
     /**
@@ -90,7 +113,7 @@ public Temporal create(final Object year, final Object month, final Object day,
      * @since 2.1.0
      */
     public Temporal createNow() {
-        return LocalDateTime.now();
+        return LocalDateTime.now(clock);
     }
 
     /**
@@ -99,7 +122,7 @@ public Temporal createNow() {
      * @since 2.1.0
      */
     public Temporal createNowForTimeZone(final Object zoneId) {
-        return ZonedDateTime.now(zoneId(zoneId));
+        return ZonedDateTime.now(clock.withZone(zoneId(zoneId)));
     }
 
     /**
@@ -108,7 +131,7 @@ public Temporal createNowForTimeZone(final Object zoneId) {
      * @since 2.1.0
      */
     public Temporal createToday() {
-        return LocalDate.now();
+        return LocalDate.now(clock);
     }
 
     /**
@@ -117,7 +140,7 @@ public Temporal createToday() {
      * @since 2.1.0
      */
     public Temporal createTodayForTimeZone(final Object zoneId) {
-        return ZonedDateTime.now(zoneId(zoneId))
+        return ZonedDateTime.now(clock.withZone(zoneId(zoneId)))
             .withHour(0).withMinute(0).withSecond(0).withNano(0);
     }
 
@@ -127,7 +150,8 @@ public Temporal createTodayForTimeZone(final Object zoneId) {
      * @since 2.1.0
      */
     public Temporal createDate(String isoDate) {
-        return LocalDate.parse(isoDate);
+        final LocalDate date = TemporalISOParser.parseISOLocalDate(isoDate);
+        return date != null ? date : LocalDate.parse(isoDate);
     }
 
     /**
@@ -136,41 +160,97 @@ public Temporal createDate(String isoDate) {
      * @since 2.1.0
      */
     public Temporal createDateTime(String isoDate) {
-        return LocalDateTime.parse(isoDate);
+        final LocalDateTime dateTime = TemporalISOParser.parseISOLocalDateTime(isoDate);
+        return dateTime != null ? dateTime : LocalDateTime.parse(isoDate);
     }
 
     /**
+     * Parses the date with the default locale of the JVM, as {@link DateTimeFormatter#ofPattern(String)}.
      *
      * @return a instance of java.time.LocalDate
      * @since 2.1.0
      */
     public Temporal createDate(String isoDate, String pattern) {
-        return LocalDate.parse(isoDate, DateTimeFormatter.ofPattern(pattern));
+        return createDate(isoDate, pattern, Locale.getDefault(Locale.Category.FORMAT));
     }
 
     /**
+     * Parses the date time with the default locale of the JVM, as {@link DateTimeFormatter#ofPattern(String)}.
      *
      * @return a instance of java.time.LocalDateTime
      * @since 2.1.0
      */
     public Temporal createDateTime(String isoDate, String pattern) {
-        return LocalDateTime.parse(isoDate, DateTimeFormatter.ofPattern(pattern));
+        return createDateTime(isoDate, pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     *
+     * @param locale the locale of the names of months and days of week in the text
+     * @return a instance of java.time.LocalDate
+     * @since 2.1.1
+     */
+    public Temporal createDate(final String isoDate, final String pattern, final Locale locale) {
+        return LocalDate.parse(isoDate, parser(pattern, locale));
+    }
+
+    /**
+     *
+     * @param locale the locale of the names of months and days of week in the text
+     * @return a instance of java.time.LocalDateTime
+     * @since 2.1.1
+     */
+    public Temporal createDateTime(final String isoDate, final String pattern, final Locale locale) {
+        return LocalDateTime.parse(isoDate, parser(pattern, locale));
+    }
+
+    /*
+     * Formatters are also parsers, so parsing shares the JVM-wide cache of formatters instead of
+     * compiling the pattern again on every call.
+     */
+    private static DateTimeFormatter parser(final String pattern, final Locale locale) {
+        Validate.notNull(pattern, "Pattern cannot be null");
+        Validate.notNull(locale, "Locale cannot be null");
+        return TemporalObjects.formatterFor(pattern, locale, null);
     }
 
     private int integer(final Object number) {
         Validate.notNull(number, "Argument cannot be null");
+        // The usual argument types are converted without the BigDecimal of EvaluationUtil
+        if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return ((Number) number).intValue();
+        } else if (number instanceof Long) {
+            // Same truncation as BigDecimal.intValue()
+            return (int) ((Long) number).longValue();
+        } else if (number instanceof String) {
+            final int value = digits((String) number);
+            if (value >= 0) {
+                return value;
+            }
+        }
         return EvaluationUtil.evaluateAsNumber(number).intValue();
     }
 
-    private ZoneId zoneId(final Object zoneId) {
-        Validate.notNull(zoneId, "ZoneId cannot be null");
-        if (zoneId instanceof ZoneId) {
-            return (ZoneId) zoneId;
-        } else if (zoneId instanceof TimeZone) {
-            TimeZone timeZone = (TimeZone) zoneId;
-            return timeZone.toZoneId();
-        } else {
-            return ZoneId.of(zoneId.toString());
+    /**
+     * @return the value of a string of up to nine digits, or -1 for any other string.
+     */
+    private static int digits(final String text) {
+        final int length = text.length();
+        if (length == 0 || length > 9) {
+            return -1;
         }
+        int value = 0;
+        for (int i = 0; i < length; i++) {
+            final int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private ZoneId zoneId(final Object zoneId) {
+        return TemporalObjects.zoneId(zoneId);
     }
 }
@@ -0,0 +1,145 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2011-2014, The THYMELEAF team (http://www.thymeleaf.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Formatting function remembering the results of the values it has already formatted, so that
+ * the distinct values of a batch (timestamps truncated to the day, for example) are only
+ * formatted once. Java 8 Time objects are immutable values, so equal objects format equally;
+ * any other target (user-defined or mutable temporal objects) is always formatted.
+ * </p>
+ * <p>
+ * The results are kept in an open-addressing table with linear probing, which grows up to a
+ * maximum size and is then only read. The lookups stop altogether if, once a sample of values has
+ * been formatted, few of them turn out to be duplicates.
+ * </p>
+ * <p>
+ * Instances are local to a batch and are not thread-safe.
+ * </p>
+ *
+ * @author Jos&eacute; Miguel Samper
+ *
+ * @since 2.1.1
+ */
+final class TemporalDistinctFormatter implements Function<Object, String> {
+
+    // Batches smaller than this are not worth the lookups
+    static final int MIN_BATCH_SIZE = 16;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MAX_CAPACITY = 8192;
+
+    // The ratio of duplicates is checked every SAMPLE_SIZE lookups, and the lookups stop if less
+    // than a quarter of them were duplicates
+    private static final int SAMPLE_SIZE = 256;
+
+    private final Function<Object, String> formatFunction;
+    private Object[] keys;
+    private String[] values;
+    private int size;
+    private int lookups;
+    private int hits;
+    private boolean enabled;
+
+    private TemporalDistinctFormatter(final Function<Object, String> formatFunction) {
+        super();
+        this.formatFunction = formatFunction;
+        this.keys = new Object[INITIAL_CAPACITY];
+        this.values = new String[INITIAL_CAPACITY];
+        this.size = 0;
+        this.lookups = 0;
+        this.hits = 0;
+        this.enabled = true;
+    }
+
+    /**
+     * @return a function formatting each distinct value of a batch of the given size once, or the
+     * given function if the batch is too small or the fast paths are disabled.
+     */
+    static Function<Object, String> forBatch(final Function<Object, String> formatFunction, final int batchSize) {
+        if (batchSize < MIN_BATCH_SIZE || !TemporalObjects.isFastPathsEnabled()) {
+            return formatFunction;
+        }
+        return new TemporalDistinctFormatter(formatFunction);
+    }
+
+    @Override
+    public String apply(final Object target) {
+        if (!enabled || !TemporalResultCache.isCacheable(target)) {
+            return formatFunction.apply(target);
+        }
+        if (++lookups % SAMPLE_SIZE == 0 && hits < lookups / 4) {
+            enabled = false;
+            keys = null;
+            values = null;
+            return formatFunction.apply(target);
+        }
+        final int mask = keys.length - 1;
+        int index = hash(target) & mask;
+        Object key;
+        while ((key = keys[index]) != null) {
+            if (key.equals(target)) {
+                hits++;
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        final String result = formatFunction.apply(target);
+        if (size < MAX_CAPACITY / 2) {
+            keys[index] = target;
+            values[index] = result;
+            if (++size > keys.length / 2) {
+                grow();
+            }
+        }
+        return result;
+    }
+
+    private void grow() {
+        if (keys.length == MAX_CAPACITY) {
+            return;
+        }
+        final Object[] oldKeys = keys;
+        final String[] oldValues = values;
+        keys = new Object[oldKeys.length * 2];
+        values = new String[oldKeys.length * 2];
+        final int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int index = hash(oldKeys[i]) & mask;
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private static int hash(final Object key) {
+        // Spreads the bits of hash codes which, as those of dates, differ only in their low bits
+        final int hashCode = key.hashCode() * 0x9E3779B9;
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+}
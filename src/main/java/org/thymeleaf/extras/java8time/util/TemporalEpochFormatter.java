@@ -0,0 +1,279 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2011-2014, The THYMELEAF team (http://www.thymeleaf.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.chrono.IsoChronology;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalQueries;
+import java.time.temporal.TemporalQuery;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.time.temporal.ValueRange;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Locale;
+
+/**
+ * <p>
+ * Formatting of columns of epoch-based primitive values (epoch milliseconds, epoch seconds and
+ * epoch days) with a pattern, without creating a Java 8 Time object for each value.
+ * </p>
+ * <p>
+ * Each value is decomposed into its date and time fields with integer arithmetic into a single
+ * mutable {@link TemporalAccessor}, which is then handed to the formatter of the pattern. Epoch
+ * instants are formatted as the {@link java.time.ZonedDateTime} of that instant in the given zone,
+ * and epoch days as the {@link java.time.LocalDate} of that day. The offset of the zone is only
+ * looked up again when a value falls outside the period between the transitions of the previous
+ * one.
+ * </p>
+ *
+ * @author Jos&eacute; Miguel Samper
+ *
+ * @since 2.1.1
+ */
+final class TemporalEpochFormatter {
+
+    // Days from 0000-03-01 to 1970-01-01, as the decomposition counts years from March
+    private static final long DAYS_0000_TO_1970 = 719468L;
+    private static final long DAYS_PER_400_YEARS = 146097L;
+
+    private static final long MIN_EPOCH_SECOND = Instant.MIN.getEpochSecond();
+    private static final long MAX_EPOCH_SECOND = Instant.MAX.getEpochSecond();
+
+    private static final int[] DAYS_BEFORE_MONTH = {0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334};
+
+    private TemporalEpochFormatter() {
+        super();
+    }
+
+    static String[] formatEpochMillis(final long[] target, final String pattern, final Locale locale, final ZoneId zoneId) {
+        final TemporalPatternFormatter formatter = TemporalObjects.patternFormatterFor(pattern, locale, null);
+        final Fields fields = new Fields(zoneId);
+        final String[] result = new String[target.length];
+        for (int i = 0; i < target.length; i++) {
+            fields.setInstant(Math.floorDiv(target[i], 1000L), (int) Math.floorMod(target[i], 1000L) * 1000000);
+            result[i] = formatter.format(fields);
+        }
+        return result;
+    }
+
+    static String[] formatEpochSeconds(final long[] target, final String pattern, final Locale locale, final ZoneId zoneId) {
+        final TemporalPatternFormatter formatter = TemporalObjects.patternFormatterFor(pattern, locale, null);
+        final Fields fields = new Fields(zoneId);
+        final String[] result = new String[target.length];
+        for (int i = 0; i < target.length; i++) {
+            fields.setInstant(target[i], 0);
+            result[i] = formatter.format(fields);
+        }
+        return result;
+    }
+
+    static String[] formatEpochDays(final int[] target, final String pattern, final Locale locale) {
+        final TemporalPatternFormatter formatter = TemporalObjects.patternFormatterFor(pattern, locale, null);
+        final Fields fields = new Fields(null);
+        final String[] result = new String[target.length];
+        for (int i = 0; i < target.length; i++) {
+            fields.setDate(target[i]);
+            result[i] = formatter.format(fields);
+        }
+        return result;
+    }
+
+
+    /*
+     * Fields of the value being formatted. Date fields are always supported; time, offset and
+     * instant fields only when formatting instants.
+     */
+    static final class Fields implements TemporalAccessor {
+
+        private final ZoneId zoneId;
+        private final ZoneRules rules;
+
+        // Offset in force in the [offsetStart, offsetEnd) range of epoch seconds
+        private ZoneOffset offset;
+        private long offsetStart;
+        private long offsetEnd;
+
+        private long epochDay;
+        private int year;
+        private int month;
+        private int day;
+        private int dayOfYear;
+        private int dayOfWeek;
+
+        private boolean hasTime;
+        private long epochSecond;
+        private long nanoOfDay;
+
+        Fields(final ZoneId zoneId) {
+            super();
+            this.zoneId = zoneId;
+            this.rules = zoneId != null ? zoneId.getRules() : null;
+            this.offsetStart = Long.MAX_VALUE;
+            this.offsetEnd = Long.MIN_VALUE;
+        }
+
+        void setInstant(final long newEpochSecond, final int nano) {
+            if (newEpochSecond < MIN_EPOCH_SECOND || newEpochSecond > MAX_EPOCH_SECOND) {
+                throw new DateTimeException("Instant exceeds minimum or maximum instant");
+            }
+            if (newEpochSecond < offsetStart || newEpochSecond >= offsetEnd) {
+                updateOffset(newEpochSecond);
+            }
+            final long localSecond = newEpochSecond + offset.getTotalSeconds();
+            setDate(Math.floorDiv(localSecond, 86400L));
+            this.hasTime = true;
+            this.epochSecond = newEpochSecond;
+            this.nanoOfDay = Math.floorMod(localSecond, 86400L) * 1000000000L + nano;
+        }
+
+        void setDate(final long newEpochDay) {
+            ChronoField.EPOCH_DAY.checkValidValue(newEpochDay);
+            // Civil calendar decomposition, with years starting in March so that leap days come last
+            final long zeroDay = newEpochDay + DAYS_0000_TO_1970;
+            final long era = Math.floorDiv(zeroDay, DAYS_PER_400_YEARS);
+            final int dayOfEra = (int) (zeroDay - era * DAYS_PER_400_YEARS);
+            final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+            final int marchDayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+            final int marchMonth = (5 * marchDayOfYear + 2) / 153;
+            this.epochDay = newEpochDay;
+            this.day = marchDayOfYear - (153 * marchMonth + 2) / 5 + 1;
+            this.month = marchMonth < 10 ? marchMonth + 3 : marchMonth - 9;
+            this.year = (int) (yearOfEra + era * 400) + (this.month <= 2 ? 1 : 0);
+            this.dayOfYear = DAYS_BEFORE_MONTH[this.month - 1] + this.day
+                + (this.month > 2 && IsoChronology.INSTANCE.isLeapYear(this.year) ? 1 : 0);
+            this.dayOfWeek = (int) Math.floorMod(newEpochDay + 3, 7L) + 1;
+            this.hasTime = false;
+        }
+
+        private void updateOffset(final long newEpochSecond) {
+            final Instant instant = Instant.ofEpochSecond(newEpochSecond);
+            offset = rules.getOffset(instant);
+            if (rules.isFixedOffset()) {
+                offsetStart = Long.MIN_VALUE;
+                offsetEnd = Long.MAX_VALUE;
+                return;
+            }
+            final ZoneOffsetTransition previous = rules.previousTransition(instant);
+            final ZoneOffsetTransition next = rules.nextTransition(instant);
+            // The previous transition of an instant that is itself a transition is the one before it
+            offsetStart = previous != null && previous.getOffsetAfter().equals(offset)
+                ? previous.toEpochSecond() : newEpochSecond;
+            offsetEnd = next != null ? next.toEpochSecond() : Long.MAX_VALUE;
+        }
+
+        @Override
+        public boolean isSupported(final TemporalField field) {
+            if (field instanceof ChronoField) {
+                if (field.isDateBased()) {
+                    return true;
+                }
+                return hasTime && (field.isTimeBased()
+                    || field == ChronoField.INSTANT_SECONDS || field == ChronoField.OFFSET_SECONDS);
+            }
+            return field != null && field.isSupportedBy(this);
+        }
+
+        @Override
+        public ValueRange range(final TemporalField field) {
+            if (!(field instanceof ChronoField)) {
+                return field.rangeRefinedBy(this);
+            }
+            if (!isSupported(field)) {
+                throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            }
+            // Ranges depending on the date, as those of LocalDate (week-based fields rely on them)
+            final boolean leapYear = IsoChronology.INSTANCE.isLeapYear(year);
+            switch ((ChronoField) field) {
+                case DAY_OF_MONTH: return ValueRange.of(1, Month.of(month).length(leapYear));
+                case DAY_OF_YEAR: return ValueRange.of(1, leapYear ? 366 : 365);
+                case ALIGNED_WEEK_OF_MONTH: return ValueRange.of(1, month == 2 && !leapYear ? 4 : 5);
+                case YEAR_OF_ERA: return ValueRange.of(1, year <= 0 ? Year.MAX_VALUE + 1 : Year.MAX_VALUE);
+                default: return field.range();
+            }
+        }
+
+        @Override
+        public long getLong(final TemporalField field) {
+            if (!(field instanceof ChronoField)) {
+                return field.getFrom(this);
+            }
+            if (!isSupported(field)) {
+                throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            }
+            switch ((ChronoField) field) {
+                case DAY_OF_WEEK: return dayOfWeek;
+                case ALIGNED_DAY_OF_WEEK_IN_MONTH: return (day - 1) % 7 + 1;
+                case ALIGNED_DAY_OF_WEEK_IN_YEAR: return (dayOfYear - 1) % 7 + 1;
+                case DAY_OF_MONTH: return day;
+                case DAY_OF_YEAR: return dayOfYear;
+                case EPOCH_DAY: return epochDay;
+                case ALIGNED_WEEK_OF_MONTH: return (day - 1) / 7 + 1;
+                case ALIGNED_WEEK_OF_YEAR: return (dayOfYear - 1) / 7 + 1;
+                case MONTH_OF_YEAR: return month;
+                case PROLEPTIC_MONTH: return year * 12L + month - 1;
+                case YEAR_OF_ERA: return year >= 1 ? year : 1 - year;
+                case YEAR: return year;
+                case ERA: return year >= 1 ? 1 : 0;
+                case NANO_OF_SECOND: return nanoOfDay % 1000000000L;
+                case NANO_OF_DAY: return nanoOfDay;
+                case MICRO_OF_SECOND: return nanoOfDay % 1000000000L / 1000L;
+                case MICRO_OF_DAY: return nanoOfDay / 1000L;
+                case MILLI_OF_SECOND: return nanoOfDay % 1000000000L / 1000000L;
+                case MILLI_OF_DAY: return nanoOfDay / 1000000L;
+                case SECOND_OF_MINUTE: return nanoOfDay / 1000000000L % 60;
+                case SECOND_OF_DAY: return nanoOfDay / 1000000000L;
+                case MINUTE_OF_HOUR: return nanoOfDay / 60000000000L % 60;
+                case MINUTE_OF_DAY: return nanoOfDay / 60000000000L;
+                case HOUR_OF_AMPM: return nanoOfDay / 3600000000000L % 12;
+                case CLOCK_HOUR_OF_AMPM: return (nanoOfDay / 3600000000000L + 11) % 12 + 1;
+                case HOUR_OF_DAY: return nanoOfDay / 3600000000000L;
+                case CLOCK_HOUR_OF_DAY: return (nanoOfDay / 3600000000000L + 23) % 24 + 1;
+                case AMPM_OF_DAY: return nanoOfDay / 3600000000000L / 12;
+                case INSTANT_SECONDS: return epochSecond;
+                case OFFSET_SECONDS: return offset.getTotalSeconds();
+                default: throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <R> R query(final TemporalQuery<R> query) {
+            if (query == TemporalQueries.zoneId()) {
+                return hasTime ? (R) zoneId : null;
+            } else if (query == TemporalQueries.chronology()) {
+                return (R) IsoChronology.INSTANCE;
+            } else if (query == TemporalQueries.precision()) {
+                return (R) (hasTime ? ChronoUnit.NANOS : ChronoUnit.DAYS);
+            }
+            return TemporalAccessor.super.query(query);
+        }
+
+    }
+
+}
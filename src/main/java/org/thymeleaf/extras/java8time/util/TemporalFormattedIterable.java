@@ -0,0 +1,104 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2011-2014, The THYMELEAF team (http://www.thymeleaf.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Iterable formatting the elements of a source of temporal objects while they are iterated,
+ * so that no more than one element is kept in memory at a time, unless the caller copies them
+ * (as <tt>th:each</tt> does in Thymeleaf 2.1).
+ * </p>
+ * <p>
+ * Iterables can be iterated as many times as their source: each iteration of an iterable is
+ * an iteration of the underlying iterable, while iterators and streams can only be iterated
+ * once. Each iteration uses a formatting function of its own, as functions may keep state
+ * (see incremental formatting of series).
+ * </p>
+ *
+ * @author Jos&eacute; Miguel Samper
+ *
+ * @since 2.1.1
+ */
+final class TemporalFormattedIterable implements Iterable<String> {
+
+    private final Iterable<?> target;
+    private Iterator<?> targetIterator;
+    private final Supplier<Function<Object, String>> formatFunctions;
+
+    TemporalFormattedIterable(final Iterable<?> target, final Supplier<Function<Object, String>> formatFunctions) {
+        super();
+        this.target = target;
+        this.targetIterator = null;
+        this.formatFunctions = formatFunctions;
+    }
+
+    TemporalFormattedIterable(final Iterator<?> targetIterator, final Supplier<Function<Object, String>> formatFunctions) {
+        super();
+        this.target = null;
+        this.targetIterator = targetIterator;
+        this.formatFunctions = formatFunctions;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new FormattingIterator(targetIterator(), formatFunctions.get());
+    }
+
+    private synchronized Iterator<?> targetIterator() {
+        if (target != null) {
+            return target.iterator();
+        }
+        if (targetIterator == null) {
+            throw new IllegalStateException("Formatted iterators and streams can only be iterated once");
+        }
+        final Iterator<?> iterator = targetIterator;
+        targetIterator = null;
+        return iterator;
+    }
+
+
+    private static final class FormattingIterator implements Iterator<String> {
+
+        private final Iterator<?> target;
+        private final Function<Object, String> formatFunction;
+
+        FormattingIterator(final Iterator<?> target, final Function<Object, String> formatFunction) {
+            super();
+            this.target = target;
+            this.formatFunction = formatFunction;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return target.hasNext();
+        }
+
+        @Override
+        public String next() {
+            return formatFunction.apply(target.next());
+        }
+
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2011-2014, The THYMELEAF team (http://www.thymeleaf.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Read-only view of a list of temporal objects, formatting each element the first time it is
+ * read and remembering the result, so that rendering only a page of a long list only costs the
+ * formatting of that page. Iterations copying the list read all its elements, so a page has to
+ * be iterated as a <tt>subList</tt> of the view.
+ * </p>
+ * <p>
+ * Lists without random access are copied to an array first, so that reading an element does not
+ * have to walk the list. The remembered results are written without synchronization: two threads
+ * reading the same element may both format it, but as strings are immutable both see a complete
+ * result.
+ * </p>
+ *
+ * @author Jos&eacute; Miguel Samper
+ *
+ * @since 2.1.1
+ */
+final class TemporalFormattedList extends AbstractList<String> implements RandomAccess {
+
+    private final List<?> target;
+    private final Object[] targetArray;
+    private final Function<Object, String> formatFunction;
+    private final String[] results;
+
+    TemporalFormattedList(final List<?> target, final Function<Object, String> formatFunction) {
+        super();
+        if (target instanceof RandomAccess) {
+            this.target = target;
+            this.targetArray = null;
+        } else {
+            this.target = null;
+            this.targetArray = target.toArray();
+        }
+        this.formatFunction = formatFunction;
+        this.results = new String[target.size()];
+    }
+
+    @Override
+    public String get(final int index) {
+        // Also checks the index, so that changes in the size of the target cannot be seen
+        String result = results[index];
+        if (result == null) {
+            result = formatFunction.apply(target != null ? target.get(index) : targetArray[index]);
+            results[index] = result;
+        }
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return results.length;
+    }
+
+}
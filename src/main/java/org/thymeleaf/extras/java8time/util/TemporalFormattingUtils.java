@@ -19,12 +19,26 @@
  */
 package org.thymeleaf.extras.java8time.util;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.time.chrono.ChronoZonedDateTime;
+import java.time.chrono.Chronology;
+import java.time.chrono.IsoChronology;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
 import java.util.Locale;
+import java.util.function.Function;
 import org.thymeleaf.exceptions.TemplateProcessingException;
 import static org.thymeleaf.extras.java8time.util.TemporalObjects.temporal;
 import static org.thymeleaf.extras.java8time.util.TemporalObjects.zonedTime;
@@ -75,13 +89,123 @@ public String format(final Object target, final String pattern, final Locale loc
         return formatDate(target, pattern, locale);
     }
 
+    public void formatTo(final Object target, final Appendable output) {
+        Validate.notNull(target, "Cannot apply format on null");
+        formatDateTo(target, null, null, output);
+    }
+
+    public void formatTo(final Object target, final Locale locale, final Appendable output) {
+        Validate.notNull(target, "Cannot apply format on null");
+        Validate.notNull(locale, "Locale cannot be null");
+        formatDateTo(target, null, locale, output);
+    }
+
+    public void formatTo(final Object target, final String pattern, final Appendable output) {
+        formatTo(target, pattern, null, output);
+    }
+
+    public void formatTo(final Object target, final String pattern, final Locale locale, final Appendable output) {
+        Validate.notNull(target, "Cannot apply format on null");
+        Validate.notEmpty(pattern, "Pattern cannot be null or empty");
+        formatDateTo(target, pattern, locale, output);
+    }
+
+    /*
+     * Kernels of the formatting of epoch-based primitive columns, see TemporalEpochFormatter.
+     */
+    String[] formatEpochMillis(final long[] target, final String pattern, final ZoneId zoneId) {
+        Validate.notNull(target, "Target cannot be null");
+        Validate.notEmpty(pattern, "Pattern cannot be null or empty");
+        try {
+            return TemporalEpochFormatter.formatEpochMillis(target, pattern, locale, zoneId != null ? zoneId : defaultZoneId);
+        } catch (final Exception e) {
+            throw new TemplateProcessingException("Error formatting date for locale " + locale, e);
+        }
+    }
+
+    String[] formatEpochSeconds(final long[] target, final String pattern, final ZoneId zoneId) {
+        Validate.notNull(target, "Target cannot be null");
+        Validate.notEmpty(pattern, "Pattern cannot be null or empty");
+        try {
+            return TemporalEpochFormatter.formatEpochSeconds(target, pattern, locale, zoneId != null ? zoneId : defaultZoneId);
+        } catch (final Exception e) {
+            throw new TemplateProcessingException("Error formatting date for locale " + locale, e);
+        }
+    }
+
+    String[] formatEpochDays(final int[] target, final String pattern) {
+        Validate.notNull(target, "Target cannot be null");
+        Validate.notEmpty(pattern, "Pattern cannot be null or empty");
+        try {
+            return TemporalEpochFormatter.formatEpochDays(target, pattern, locale);
+        } catch (final Exception e) {
+            throw new TemplateProcessingException("Error formatting date for locale " + locale, e);
+        }
+    }
+
+    /**
+     * Returns a function formatting the elements of a series (usually sorted) with the pattern,
+     * as <tt>format(target, pattern, locale)</tt> would, but reusing the text of the date and hour
+     * fields of the previous element while they do not change. The returned function keeps the
+     * state of the series, so it must be used for a single series and by a single thread.
+     */
+    Function<Object, String> seriesFormat(final String pattern, final Locale localeOverride) {
+        final Locale formattingLocale = localeOverride != null ? localeOverride : locale;
+        if (StringUtils.isEmptyOrWhitespace(pattern) || TemporalResultCache.isEnabled()
+                || !TemporalObjects.isFastPathsEnabled()) {
+            return target -> format(target, pattern, localeOverride);
+        }
+        final TemporalSeriesFormatter seriesFormatter = TemporalSeriesFormatter.forPattern(pattern, formattingLocale);
+        if (!seriesFormatter.isIncremental()) {
+            return target -> format(target, pattern, localeOverride);
+        }
+        final TemporalSeriesFormatter.Run run = seriesFormatter.newRun();
+        return target -> {
+            Validate.notNull(target, "Cannot apply format on null");
+            try {
+                return run.format(temporal(target));
+            } catch (final Exception e) {
+                throw new TemplateProcessingException(
+                    "Error formatting date for locale " + formattingLocale, e);
+            }
+        };
+    }
+
+    /**
+     * Formats the current date and time of the clock, as <tt>format(LocalDateTime.now(clock), pattern)</tt>
+     * would, caching the formatted text for the current second.
+     */
+    public String formatNow(final Clock clock, final String pattern) {
+        return formatNow(clock, pattern, null);
+    }
+
+    public String formatNow(final Clock clock, final String pattern, final Locale locale) {
+        Validate.notNull(clock, "Clock cannot be null");
+        Validate.notEmpty(pattern, "Pattern cannot be null or empty");
+        final Locale formattingLocale = locale != null ? locale : this.locale;
+        try {
+            return TemporalNowFormatter.forPattern(pattern, formattingLocale, clock.getZone()).format(clock.instant());
+        } catch (final Exception e) {
+            throw new TemplateProcessingException(
+                "Error formatting date for locale " + formattingLocale, e);
+        }
+    }
+
     public Integer day(final Object target) {
+        return dayInt(target);
+    }
+
+    public int dayInt(final Object target) {
         Validate.notNull(target, "Cannot retrieve day from null");
         final TemporalAccessor time = temporal(target);
         return time.get(ChronoField.DAY_OF_MONTH);
     }
 
     public Integer month(final Object target) {
+        return monthInt(target);
+    }
+
+    public int monthInt(final Object target) {
         Validate.notNull(target, "Cannot retrieve month from null");
         final TemporalAccessor time = temporal(target);
         return time.get(ChronoField.MONTH_OF_YEAR);
@@ -89,21 +213,37 @@ public Integer month(final Object target) {
 
     public String monthName(final Object target) {
         Validate.notNull(target, "Cannot retrieve month name from null");
+        final int value = isoValue(target, ChronoField.MONTH_OF_YEAR);
+        if (value > 0) {
+            return TemporalNames.forLocale(locale).monthName(value);
+        }
         return format(target, "MMMM");
     }
 
     public String monthNameShort(final Object target) {
         Validate.notNull(target, "Cannot retrieve month name short from null");
+        final int value = isoValue(target, ChronoField.MONTH_OF_YEAR);
+        if (value > 0) {
+            return TemporalNames.forLocale(locale).monthNameShort(value);
+        }
         return format(target, "MMM");
     }
 
     public Integer year(final Object target) {
+        return yearInt(target);
+    }
+
+    public int yearInt(final Object target) {
         Validate.notNull(target, "Cannot retrieve year from null");
         final TemporalAccessor time = temporal(target);
         return time.get(ChronoField.YEAR);
     }
 
     public Integer dayOfWeek(final Object target) {
+        return dayOfWeekInt(target);
+    }
+
+    public int dayOfWeekInt(final Object target) {
         Validate.notNull(target, "Cannot retrieve day of week from null");
         final TemporalAccessor time = temporal(target);
         return time.get(ChronoField.DAY_OF_WEEK);
@@ -111,49 +251,213 @@ public Integer dayOfWeek(final Object target) {
 
     public String dayOfWeekName(final Object target) {
         Validate.notNull(target, "Cannot retrieve day of week name from null");
+        final int value = isoValue(target, ChronoField.DAY_OF_WEEK);
+        if (value > 0) {
+            return TemporalNames.forLocale(locale).dayOfWeekName(value);
+        }
         return format(target, "EEEE");
     }
 
     public String dayOfWeekNameShort(final Object target) {
         Validate.notNull(target, "Cannot retrieve day of week name shortfrom null");
+        final int value = isoValue(target, ChronoField.DAY_OF_WEEK);
+        if (value > 0) {
+            return TemporalNames.forLocale(locale).dayOfWeekNameShort(value);
+        }
         return format(target, "EEE");
     }
 
     public Integer hour(final Object target) {
+        return hourInt(target);
+    }
+
+    public int hourInt(final Object target) {
         Validate.notNull(target, "Cannot retrieve hour from null");
         final TemporalAccessor time = temporal(target);
         return time.get(ChronoField.HOUR_OF_DAY);
     }
 
     public Integer minute(final Object target) {
+        return minuteInt(target);
+    }
+
+    public int minuteInt(final Object target) {
         Validate.notNull(target, "Cannot retrieve hour from null");
         final TemporalAccessor time = temporal(target);
         return time.get(ChronoField.MINUTE_OF_HOUR);
     }
 
     public Integer second(final Object target) {
+        return secondInt(target);
+    }
+
+    public int secondInt(final Object target) {
         Validate.notNull(target, "Cannot retrieve hour from null");
         final TemporalAccessor time = temporal(target);
         return time.get(ChronoField.SECOND_OF_MINUTE);
     }
 
     public Integer nanosecond(final Object target) {
+        return nanosecondInt(target);
+    }
+
+    public int nanosecondInt(final Object target) {
         Validate.notNull(target, "Cannot retrieve hour from null");
         final TemporalAccessor time = temporal(target);
         return time.get(ChronoField.NANO_OF_SECOND);
     }
 
     public String formatISO(final Object target) {
+        final ChronoZonedDateTime time = isoTime(target);
+        final Object key = TemporalResultCache.keyFor(TemporalResultCache.FORMAT_ISO, target, null, locale, defaultZoneId);
+        if (key != null) {
+            String result = TemporalResultCache.get(key);
+            if (result == null) {
+                result = formatISO(time);
+                TemporalResultCache.put(key, result);
+            }
+            return result;
+        }
+        return formatISO(time);
+    }
+
+    private String formatISO(final ChronoZonedDateTime time) {
+        final char[] buffer = new char[TemporalISOFormatter.MAX_LENGTH];
+        final int length = printISO(time, buffer);
+        if (length >= 0) {
+            return new String(buffer, 0, length);
+        }
+        return ISO8601_DATE_TIME_FORMATTER.withLocale(locale).format(time);
+    }
+
+    public void formatISOTo(final Object target, final Appendable output) {
+        Validate.notNull(output, "Output cannot be null");
+        if (TemporalResultCache.isEnabled()) {
+            append(formatISO(target), output);
+            return;
+        }
+        final ChronoZonedDateTime time = isoTime(target);
+        final char[] buffer = new char[TemporalISOFormatter.MAX_LENGTH];
+        final int length = printISO(time, buffer);
+        if (length >= 0) {
+            append(buffer, length, output);
+        } else {
+            ISO8601_DATE_TIME_FORMATTER.withLocale(locale).formatTo(time, output);
+        }
+    }
+
+    private ChronoZonedDateTime isoTime(final Object target) {
         Validate.notNull(target, "Cannot apply format on null");
         if (target instanceof TemporalAccessor) {
-            ChronoZonedDateTime time = zonedTime(target, defaultZoneId);
-            return ISO8601_DATE_TIME_FORMATTER.withLocale(locale).format(time);
+            return zonedTime(target, defaultZoneId);
         } else {
             throw new IllegalArgumentException(
                 "Cannot format object of class \"" + target.getClass().getName() + "\" as a date");
         }
     }
 
+    private static int printISO(final ChronoZonedDateTime time, final char[] buffer) {
+        if (time instanceof ZonedDateTime) {
+            final ZonedDateTime zonedDateTime = (ZonedDateTime) time;
+            return TemporalISOFormatter.printISO(zonedDateTime.toLocalDateTime(), zonedDateTime.getOffset(), buffer);
+        }
+        return -1;
+    }
+
+    public String formatISOLocalDate(final Object target) {
+        Validate.notNull(target, "Cannot apply format on null");
+        final TemporalAccessor time = temporal(target);
+        final LocalDate date = time.query(TemporalQueries.localDate());
+        if (date != null) {
+            final char[] buffer = new char[TemporalISOFormatter.MAX_LENGTH];
+            final int length = TemporalISOFormatter.printISOLocalDate(date, buffer);
+            if (length >= 0) {
+                return new String(buffer, 0, length);
+            }
+        }
+        return DateTimeFormatter.ISO_LOCAL_DATE.format(time);
+    }
+
+    public String formatISOLocalDateTime(final Object target) {
+        Validate.notNull(target, "Cannot apply format on null");
+        final TemporalAccessor time = temporal(target);
+        final LocalDateTime dateTime = localDateTime(time);
+        if (dateTime != null) {
+            final char[] buffer = new char[TemporalISOFormatter.MAX_LENGTH];
+            final int length = TemporalISOFormatter.printISOLocalDateTime(dateTime, buffer);
+            if (length >= 0) {
+                return new String(buffer, 0, length);
+            }
+        }
+        return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(time);
+    }
+
+    public String formatISOInstant(final Object target) {
+        Validate.notNull(target, "Cannot apply format on null");
+        final Instant instant;
+        if (target instanceof Instant) {
+            instant = (Instant) target;
+        } else if (target instanceof OffsetDateTime) {
+            instant = ((OffsetDateTime) target).toInstant();
+        } else {
+            instant = zonedTime(target, defaultZoneId).toInstant();
+        }
+        final char[] buffer = new char[TemporalISOFormatter.MAX_LENGTH];
+        final int length = TemporalISOFormatter.printISOInstant(instant, buffer);
+        if (length >= 0) {
+            return new String(buffer, 0, length);
+        }
+        return DateTimeFormatter.ISO_INSTANT.format(instant);
+    }
+
+    public String formatRFC1123(final Object target) {
+        Validate.notNull(target, "Cannot apply format on null");
+        final TemporalAccessor time;
+        if (target instanceof OffsetDateTime) {
+            time = (OffsetDateTime) target;
+        } else {
+            time = zonedTime(target, defaultZoneId);
+        }
+        final LocalDateTime dateTime = localDateTime(time);
+        final ZoneOffset offset = time.query(TemporalQueries.offset());
+        if (dateTime != null && offset != null) {
+            final char[] buffer = new char[TemporalISOFormatter.MAX_LENGTH];
+            final int length = TemporalISOFormatter.printRFC1123(dateTime, offset, buffer);
+            if (length >= 0) {
+                return new String(buffer, 0, length);
+            }
+        }
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(time);
+    }
+
+    /*
+     * Value of the field when the target is in the ISO chronology, for which names can be looked
+     * up in the precomputed tables; -1 otherwise.
+     */
+    private static int isoValue(final Object target, final ChronoField field) {
+        if (target instanceof TemporalAccessor) {
+            final TemporalAccessor time = (TemporalAccessor) target;
+            if (time.isSupported(field)) {
+                final Chronology chronology = time.query(TemporalQueries.chronology());
+                if (chronology == null || chronology == IsoChronology.INSTANCE) {
+                    return time.get(field);
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static LocalDateTime localDateTime(final TemporalAccessor time) {
+        if (time instanceof LocalDateTime) {
+            return (LocalDateTime) time;
+        } else if (time instanceof ZonedDateTime) {
+            return ((ZonedDateTime) time).toLocalDateTime();
+        } else if (time instanceof OffsetDateTime) {
+            return ((OffsetDateTime) time).toLocalDateTime();
+        }
+        return null;
+    }
+
     private String formatDate(final Object target) {
         return formatDate(target, null, null);
     }
@@ -162,14 +466,43 @@ private String formatDate(final Object target, final String pattern, final Local
         Locale formattingLocale = localeOverride != null ? localeOverride : locale;
         try {
             Validate.notNull(target, "Cannot apply format on null");
+            final Object key = TemporalResultCache.keyFor(TemporalResultCache.FORMAT, target, pattern, formattingLocale, null);
+            if (key != null) {
+                String result = TemporalResultCache.get(key);
+                if (result == null) {
+                    result = formatDateUncached(target, pattern, formattingLocale);
+                    TemporalResultCache.put(key, result);
+                }
+                return result;
+            }
+            return formatDateUncached(target, pattern, formattingLocale);
+        } catch (final Exception e) {
+            throw new TemplateProcessingException(
+                "Error formatting date for locale " + formattingLocale, e);
+        }
+    }
 
-            DateTimeFormatter formatter;
+    private static String formatDateUncached(final Object target, final String pattern, final Locale formattingLocale) {
+        if (StringUtils.isEmptyOrWhitespace(pattern)) {
+            return TemporalObjects.formatterFor(target, formattingLocale).format(temporal(target));
+        } else {
+            return TemporalObjects.patternFormatterFor(pattern, formattingLocale, null).format(temporal(target));
+        }
+    }
+
+    private void formatDateTo(
+            final Object target, final String pattern, final Locale localeOverride, final Appendable output) {
+        Validate.notNull(output, "Output cannot be null");
+        if (TemporalResultCache.isEnabled()) {
+            append(formatDate(target, pattern, localeOverride), output);
+            return;
+        }
+        Locale formattingLocale = localeOverride != null ? localeOverride : locale;
+        try {
             if (StringUtils.isEmptyOrWhitespace(pattern)) {
-                formatter = TemporalObjects.formatterFor(target, formattingLocale);
-                return formatter.format(temporal(target));
+                TemporalObjects.formatterFor(target, formattingLocale).formatTo(temporal(target), output);
             } else {
-                formatter = DateTimeFormatter.ofPattern(pattern, formattingLocale);
-                return formatter.format(temporal(target));
+                TemporalObjects.patternFormatterFor(pattern, formattingLocale, null).formatTo(temporal(target), output);
             }
         } catch (final Exception e) {
             throw new TemplateProcessingException(
@@ -177,4 +510,30 @@ private String formatDate(final Object target, final String pattern, final Local
         }
     }
 
+    /*
+     * Writes the buffer using the bulk operations of the most common outputs, avoiding the
+     * creation of an intermediate String.
+     */
+    static void append(final char[] buffer, final int length, final Appendable output) {
+        try {
+            if (output instanceof StringBuilder) {
+                ((StringBuilder) output).append(buffer, 0, length);
+            } else if (output instanceof Writer) {
+                ((Writer) output).write(buffer, 0, length);
+            } else {
+                output.append(CharBuffer.wrap(buffer, 0, length));
+            }
+        } catch (final IOException e) {
+            throw new TemplateProcessingException("Error writing formatted date", e);
+        }
+    }
+
+    static void append(final CharSequence text, final Appendable output) {
+        try {
+            output.append(text);
+        } catch (final IOException e) {
+            throw new TemplateProcessingException("Error writing formatted date", e);
+        }
+    }
+
 }
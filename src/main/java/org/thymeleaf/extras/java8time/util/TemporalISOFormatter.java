@@ -0,0 +1,265 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2011-2014, The THYMELEAF team (http://www.thymeleaf.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+
+/**
+ * <p>
+ * Hand-written printers for the fixed ISO-8601 and RFC-1123 layouts, writing digits straight
+ * into a char buffer instead of going through the general {@link java.time.format.DateTimeFormatter}
+ * machinery.
+ * </p>
+ * <p>
+ * Every <tt>print*</tt> method produces exactly the same characters as its equivalent
+ * <tt>DateTimeFormatter</tt>, and returns the number of characters written or <tt>-1</tt> when the
+ * value falls outside the range it can handle (e.g. years beyond 9999), in which case callers
+ * must fall back to the standard formatter.
+ * </p>
+ *
+ * @author Jos&eacute; Miguel Samper
+ *
+ * @since 2.1.1
+ */
+final class TemporalISOFormatter {
+
+    /**
+     * Size of a buffer big enough for any of the layouts printed by this class.
+     */
+    static final int MAX_LENGTH = 48;
+
+    private static final String[] DAYS_OF_WEEK = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+    private static final String[] MONTHS =
+        {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+
+    // Range of epoch seconds whose UTC date has a four-digit year (0001-01-01 to 9999-12-31)
+    private static final long MIN_INSTANT_SECONDS = -62135596800L;
+    private static final long MAX_INSTANT_SECONDS = 253402300799L;
+
+    private TemporalISOFormatter() {
+        super();
+    }
+
+    /**
+     * Equivalent to the <tt>yyyy-MM-dd'T'HH:mm:ss.SSSZZZ</tt> pattern used by <tt>formatISO</tt>.
+     */
+    static int printISO(final LocalDateTime dateTime, final ZoneOffset offset, final char[] buffer) {
+        if (!TemporalObjects.isFastPathsEnabled()) {
+            return -1;
+        }
+        final int year = dateTime.getYear();
+        if (year < 1 || year > 9999) {
+            return -1;
+        }
+        int pos = printDate(dateTime.toLocalDate(), buffer, 0);
+        buffer[pos++] = 'T';
+        pos = print2(dateTime.getHour(), buffer, pos);
+        buffer[pos++] = ':';
+        pos = print2(dateTime.getMinute(), buffer, pos);
+        buffer[pos++] = ':';
+        pos = print2(dateTime.getSecond(), buffer, pos);
+        buffer[pos++] = '.';
+        pos = print3(dateTime.getNano() / 1000000, buffer, pos);
+        return printOffset(offset, "+0000", buffer, pos);
+    }
+
+    /**
+     * Equivalent to {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE}.
+     */
+    static int printISOLocalDate(final LocalDate date, final char[] buffer) {
+        if (!TemporalObjects.isFastPathsEnabled()) {
+            return -1;
+        }
+        final int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            return -1;
+        }
+        return printDate(date, buffer, 0);
+    }
+
+    /**
+     * Equivalent to {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE_TIME}.
+     */
+    static int printISOLocalDateTime(final LocalDateTime dateTime, final char[] buffer) {
+        if (!TemporalObjects.isFastPathsEnabled()) {
+            return -1;
+        }
+        final int year = dateTime.getYear();
+        if (year < 0 || year > 9999) {
+            return -1;
+        }
+        int pos = printDate(dateTime.toLocalDate(), buffer, 0);
+        buffer[pos++] = 'T';
+        return printTime(dateTime.toLocalTime(), buffer, pos);
+    }
+
+    /**
+     * Equivalent to {@link java.time.format.DateTimeFormatter#ISO_INSTANT}.
+     */
+    static int printISOInstant(final Instant instant, final char[] buffer) {
+        if (!TemporalObjects.isFastPathsEnabled()) {
+            return -1;
+        }
+        final long epochSecond = instant.getEpochSecond();
+        if (epochSecond < MIN_INSTANT_SECONDS || epochSecond > MAX_INSTANT_SECONDS) {
+            return -1;
+        }
+        final long epochDay = Math.floorDiv(epochSecond, 86400L);
+        final int secondOfDay = (int) Math.floorMod(epochSecond, 86400L);
+        int pos = printDate(LocalDate.ofEpochDay(epochDay), buffer, 0);
+        buffer[pos++] = 'T';
+        pos = print2(secondOfDay / 3600, buffer, pos);
+        buffer[pos++] = ':';
+        pos = print2((secondOfDay / 60) % 60, buffer, pos);
+        buffer[pos++] = ':';
+        pos = print2(secondOfDay % 60, buffer, pos);
+        final int nano = instant.getNano();
+        if (nano > 0) {
+            buffer[pos++] = '.';
+            if (nano % 1000000 == 0) {
+                pos = print3(nano / 1000000, buffer, pos);
+            } else if (nano % 1000 == 0) {
+                pos = print3(nano / 1000000, buffer, pos);
+                pos = print3((nano / 1000) % 1000, buffer, pos);
+            } else {
+                pos = print9(nano, buffer, pos);
+            }
+        }
+        buffer[pos++] = 'Z';
+        return pos;
+    }
+
+    /**
+     * Equivalent to {@link java.time.format.DateTimeFormatter#RFC_1123_DATE_TIME}.
+     */
+    static int printRFC1123(final LocalDateTime dateTime, final ZoneOffset offset, final char[] buffer) {
+        if (!TemporalObjects.isFastPathsEnabled()) {
+            return -1;
+        }
+        final int year = dateTime.getYear();
+        if (year < 0 || year > 9999) {
+            return -1;
+        }
+        int pos = printText(DAYS_OF_WEEK[dateTime.getDayOfWeek().ordinal()], buffer, 0);
+        buffer[pos++] = ',';
+        buffer[pos++] = ' ';
+        final int day = dateTime.getDayOfMonth();
+        if (day < 10) {
+            buffer[pos++] = (char) ('0' + day);
+        } else {
+            pos = print2(day, buffer, pos);
+        }
+        buffer[pos++] = ' ';
+        pos = printText(MONTHS[dateTime.getMonthValue() - 1], buffer, pos);
+        buffer[pos++] = ' ';
+        pos = print4(year, buffer, pos);
+        buffer[pos++] = ' ';
+        pos = print2(dateTime.getHour(), buffer, pos);
+        buffer[pos++] = ':';
+        pos = print2(dateTime.getMinute(), buffer, pos);
+        buffer[pos++] = ':';
+        pos = print2(dateTime.getSecond(), buffer, pos);
+        buffer[pos++] = ' ';
+        return printOffset(offset, "GMT", buffer, pos);
+    }
+
+    private static int printDate(final LocalDate date, final char[] buffer, final int start) {
+        int pos = print4(date.getYear(), buffer, start);
+        buffer[pos++] = '-';
+        pos = print2(date.getMonthValue(), buffer, pos);
+        buffer[pos++] = '-';
+        return print2(date.getDayOfMonth(), buffer, pos);
+    }
+
+    /*
+     * Seconds are always printed, and the fraction is printed without trailing zeros
+     * (only when not zero), as ISO_LOCAL_TIME does.
+     */
+    private static int printTime(final LocalTime time, final char[] buffer, final int start) {
+        int pos = print2(time.getHour(), buffer, start);
+        buffer[pos++] = ':';
+        pos = print2(time.getMinute(), buffer, pos);
+        buffer[pos++] = ':';
+        pos = print2(time.getSecond(), buffer, pos);
+        int nano = time.getNano();
+        if (nano > 0) {
+            buffer[pos++] = '.';
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            for (int i = pos + digits - 1; i >= pos; i--) {
+                buffer[i] = (char) ('0' + nano % 10);
+                nano /= 10;
+            }
+            pos += digits;
+        }
+        return pos;
+    }
+
+    /*
+     * Same output as DateTimeFormatterBuilder.appendOffset("+HHMM", noOffsetText): seconds of the
+     * offset are never printed, and offsets below one minute are printed as the no-offset text.
+     */
+    private static int printOffset(
+            final ZoneOffset offset, final String noOffsetText, final char[] buffer, final int start) {
+        final int totalSeconds = offset.getTotalSeconds();
+        final int absHours = Math.abs((totalSeconds / 3600) % 100);
+        final int absMinutes = Math.abs((totalSeconds / 60) % 60);
+        if (absHours == 0 && absMinutes == 0) {
+            return printText(noOffsetText, buffer, start);
+        }
+        int pos = start;
+        buffer[pos++] = totalSeconds < 0 ? '-' : '+';
+        pos = print2(absHours, buffer, pos);
+        return print2(absMinutes, buffer, pos);
+    }
+
+    private static int printText(final String text, final char[] buffer, final int start) {
+        final int length = text.length();
+        text.getChars(0, length, buffer, start);
+        return start + length;
+    }
+
+    private static int print2(final int value, final char[] buffer, final int pos) {
+        buffer[pos] = (char) ('0' + value / 10);
+        buffer[pos + 1] = (char) ('0' + value % 10);
+        return pos + 2;
+    }
+
+    private static int print3(final int value, final char[] buffer, final int pos) {
+        buffer[pos] = (char) ('0' + value / 100);
+        return print2(value % 100, buffer, pos + 1);
+    }
+
+    private static int print4(final int value, final char[] buffer, final int pos) {
+        return print2(value % 100, buffer, print2(value / 100, buffer, pos));
+    }
+
+    private static int print9(final int value, final char[] buffer, final int pos) {
+        return print3(value % 1000, buffer, print3((value / 1000) % 1000, buffer, print3(value / 1000000, buffer, pos)));
+    }
+
+}
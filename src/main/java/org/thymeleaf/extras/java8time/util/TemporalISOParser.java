@@ -0,0 +1,171 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2011-2014, The THYMELEAF team (http://www.thymeleaf.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.chrono.IsoChronology;
+
+/**
+ * <p>
+ * Hand-written scanner for the fixed ISO-8601 local date (<tt>yyyy-MM-dd</tt>) and local date
+ * time (<tt>yyyy-MM-dd'T'HH:mm[:ss[.SSSSSSSSS]]</tt>) layouts, building the temporal objects
+ * straight from the chars instead of going through the general
+ * {@link java.time.format.DateTimeFormatter} parsing machinery.
+ * </p>
+ * <p>
+ * Every <tt>parse*</tt> method accepts a subset of what its equivalent <tt>DateTimeFormatter</tt>
+ * accepts, and returns exactly the same value. Anything else (other layouts, years out of the
+ * 0000..9999 range, lowercase separators, invalid dates...) returns <tt>null</tt>, in which case
+ * callers must fall back to the standard parser, which also reports the errors.
+ * </p>
+ *
+ * @author Jos&eacute; Miguel Samper
+ *
+ * @since 2.1.1
+ */
+final class TemporalISOParser {
+
+    private static final int DATE_LENGTH = 10;
+
+    private TemporalISOParser() {
+        super();
+    }
+
+    /**
+     * Equivalent to {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE}.
+     */
+    static LocalDate parseISOLocalDate(final CharSequence text) {
+        if (text == null || text.length() != DATE_LENGTH || !TemporalObjects.isFastPathsEnabled()) {
+            return null;
+        }
+        final long date = parseDate(text);
+        if (date < 0) {
+            return null;
+        }
+        return LocalDate.of((int) (date >>> 16), (int) (date >>> 8) & 0xFF, (int) date & 0xFF);
+    }
+
+    /**
+     * Equivalent to {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE_TIME}.
+     */
+    static LocalDateTime parseISOLocalDateTime(final CharSequence text) {
+        if (text == null || !TemporalObjects.isFastPathsEnabled()) {
+            return null;
+        }
+        final int length = text.length();
+        // The shortest layout is yyyy-MM-ddTHH:mm, the longest one has nine fraction digits
+        if (length < DATE_LENGTH + 6 || length > DATE_LENGTH + 19 || text.charAt(DATE_LENGTH) != 'T') {
+            return null;
+        }
+        final long date = parseDate(text);
+        if (date < 0) {
+            return null;
+        }
+        int pos = DATE_LENGTH + 1;
+        final int hour = parse2(text, pos);
+        if (hour < 0 || hour > 23 || text.charAt(pos + 2) != ':') {
+            return null;
+        }
+        pos += 3;
+        final int minute = parse2(text, pos);
+        if (minute < 0 || minute > 59) {
+            return null;
+        }
+        pos += 2;
+        int second = 0;
+        int nano = 0;
+        if (pos < length) {
+            if (text.charAt(pos) != ':' || pos + 3 > length) {
+                return null;
+            }
+            second = parse2(text, pos + 1);
+            if (second < 0 || second > 59) {
+                return null;
+            }
+            pos += 3;
+            if (pos < length) {
+                if (text.charAt(pos) != '.' || pos + 1 == length) {
+                    return null;
+                }
+                pos++;
+                int digits = 0;
+                for (; pos < length; pos++, digits++) {
+                    final int digit = text.charAt(pos) - '0';
+                    if (digit < 0 || digit > 9) {
+                        return null;
+                    }
+                    nano = nano * 10 + digit;
+                }
+                for (; digits < 9; digits++) {
+                    nano *= 10;
+                }
+            }
+        }
+        return LocalDateTime.of(
+            (int) (date >>> 16), (int) (date >>> 8) & 0xFF, (int) date & 0xFF, hour, minute, second, nano);
+    }
+
+    /*
+     * Parses the yyyy-MM-dd layout at the start of the text, returning the year, month and day
+     * packed in a long, or -1 if the text does not start with a valid date.
+     */
+    private static long parseDate(final CharSequence text) {
+        final int high = parse2(text, 0);
+        final int low = parse2(text, 2);
+        if (high < 0 || low < 0 || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return -1;
+        }
+        final int year = high * 100 + low;
+        final int month = parse2(text, 5);
+        final int day = parse2(text, 8);
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return -1;
+        }
+        return ((long) year << 16) | (month << 8) | day;
+    }
+
+    private static int lengthOfMonth(final int year, final int month) {
+        switch (month) {
+            case 2:
+                return IsoChronology.INSTANCE.isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * @return the value of the two digits at the position, or -1 if they are not digits.
+     */
+    private static int parse2(final CharSequence text, final int pos) {
+        final int tens = text.charAt(pos) - '0';
+        final int units = text.charAt(pos + 1) - '0';
+        if (tens < 0 || tens > 9 || units < 0 || units > 9) {
+            return -1;
+        }
+        return tens * 10 + units;
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2011-2014, The THYMELEAF team (http://www.thymeleaf.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.time.ZoneId;
+import java.time.temporal.Temporal;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+import org.thymeleaf.util.Validate;
+
+
+/**
+ * <p>
+ * Formatting utilities for iterables, iterators and streams of Java 8 Time objects.
+ * </p>
+ * <p>
+ * The results are iterables formatting each element while it is iterated, so sources such as
+ * database cursors can be formatted without being copied into a collection first. Iterables
+ * can be iterated again if their source can; iterators and streams can only be iterated once.
+ * </p>
+ * <p>
+ * Memory stays constant only if the result is iterated without being copied, as <tt>th:each</tt>
+ * does in Thymeleaf 3. In Thymeleaf 2.1, <tt>th:each</tt> copies what it iterates into a list
+ * before rendering anything, so all the elements are formatted and kept at once: the source is
+ * still read only once, but <tt>listFormat</tt> is just as good there.
+ * </p>
+ *
+ * @author Jos&eacute; Miguel Samper
+ *
+ * @since 2.1.1
+ */
+public final class TemporalIterableUtils {
+
+    private final TemporalFormattingUtils temporalFormattingUtils;
+
+    public TemporalIterableUtils(final Locale locale, final ZoneId defaultZoneId) {
+        super();
+        Validate.notNull(locale, "Locale cannot be null");
+        Validate.notNull(defaultZoneId, "ZoneId cannot be null");
+        temporalFormattingUtils = new TemporalFormattingUtils(locale, defaultZoneId);
+    }
+
+    /**
+     * Creates an instance sharing the formatting utils, which are immutable and thread-safe.
+     */
+    public TemporalIterableUtils(final TemporalFormattingUtils temporalFormattingUtils) {
+        super();
+        Validate.notNull(temporalFormattingUtils, "Formatting utils cannot be null");
+        this.temporalFormattingUtils = temporalFormattingUtils;
+    }
+
+    public Iterable<String> iterableFormat(final Iterable<? extends Temporal> target) {
+        Validate.notNull(target, "Target cannot be null");
+        return new TemporalFormattedIterable(target, () -> temporalFormattingUtils::format);
+    }
+
+    public Iterable<String> iterableFormat(final Iterable<? extends Temporal> target, final Locale locale) {
+        Validate.notNull(target, "Target cannot be null");
+        Validate.notNull(locale, "Locale cannot be null");
+        return new TemporalFormattedIterable(target, () -> time -> temporalFormattingUtils.format(time, locale));
+    }
+
+    public Iterable<String> iterableFormat(final Iterable<? extends Temporal> target, final String pattern) {
+        Validate.notNull(target, "Target cannot be null");
+        Validate.notEmpty(pattern, "Pattern cannot be null or empty");
+        return new TemporalFormattedIterable(target, () -> temporalFormattingUtils.seriesFormat(pattern, null));
+    }
+
+    public Iterable<String> iterableFormat(final Iterable<? extends Temporal> target, final String pattern, final Locale locale) {
+        Validate.notNull(target, "Target cannot be null");
+        Validate.notEmpty(pattern, "Pattern cannot be null or empty");
+        return new TemporalFormattedIterable(target, () -> temporalFormattingUtils.seriesFormat(pattern, locale));
+    }
+
+    public Iterable<String> iteratorFormat(final Iterator<? extends Temporal> target) {
+        Validate.notNull(target, "Target cannot be null");
+        return new TemporalFormattedIterable(target, () -> temporalFormattingUtils::format);
+    }
+
+    public Iterable<String> iteratorFormat(final Iterator<? extends Temporal> target, final Locale locale) {
+        Validate.notNull(target, "Target cannot be null");
+        Validate.notNull(locale, "Locale cannot be null");
+        return new TemporalFormattedIterable(target, () -> time -> temporalFormattingUtils.format(time, locale));
+    }
+
+    public Iterable<String> iteratorFormat(final Iterator<? extends Temporal> target, final String pattern) {
+        Validate.notNull(target, "Target cannot be null");
+        Validate.notEmpty(pattern, "Pattern cannot be null or empty");
+        return new TemporalFormattedIterable(target, () -> temporalFormattingUtils.seriesFormat(pattern, null));
+    }
+
+    public Iterable<String> iteratorFormat(final Iterator<? extends Temporal> target, final String pattern, final Locale locale) {
+        Validate.notNull(target, "Target cannot be null");
+        Validate.notEmpty(pattern, "Pattern cannot be null or empty");
+        return new TemporalFormattedIterable(target, () -> temporalFormattingUtils.seriesFormat(pattern, locale));
+    }
+
+    public Iterable<String> streamFormat(final Stream<? extends Temporal> target) {
+        Validate.notNull(target, "Target cannot be null");
+        return new TemporalFormattedIterable(target.iterator(), () -> temporalFormattingUtils::format);
+    }
+
+    public Iterable<String> streamFormat(final Stream<? extends Temporal> target, final Locale locale) {
+        Validate.notNull(target, "Target cannot be null");
+        Validate.notNull(locale, "Locale cannot be null");
+        return new TemporalFormattedIterable(target.iterator(), () -> time -> temporalFormattingUtils.format(time, locale));
+    }
+
+    public Iterable<String> streamFormat(final Stream<? extends Temporal> target, final String pattern) {
+        Validate.notNull(target, "Target cannot be null");
+        Validate.notEmpty(pattern, "Pattern cannot be null or empty");
+        return new TemporalFormattedIterable(target.iterator(), () -> temporalFormattingUtils.seriesFormat(pattern, null));
+    }
+
+    public Iterable<String> streamFormat(final Stream<? extends Temporal> target, final String pattern, final Locale locale) {
+        Validate.notNull(target, "Target cannot be null");
+        Validate.notEmpty(pattern, "Pattern cannot be null or empty");
+        return new TemporalFormattedIterable(target.iterator(), () -> temporalFormattingUtils.seriesFormat(pattern, locale));
+    }
+
+}
@@ -21,10 +21,15 @@
 
 import java.time.ZoneId;
 import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.RandomAccess;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
-import static java.util.stream.Collectors.toList;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 import org.thymeleaf.util.Validate;
 
 
@@ -46,80 +51,306 @@ public TemporalListUtils(final Locale locale, final ZoneId defaultZoneId) {
         temporalFormattingUtils = new TemporalFormattingUtils(locale, defaultZoneId);
     }
 
+    /**
+     * Creates an instance sharing the formatting utils, which are immutable and thread-safe.
+     *
+     * @since 2.1.1
+     */
+    public TemporalListUtils(final TemporalFormattingUtils temporalFormattingUtils) {
+        super();
+        Validate.notNull(temporalFormattingUtils, "Formatting utils cannot be null");
+        this.temporalFormattingUtils = temporalFormattingUtils;
+    }
+
     public List<String> listFormat(final List<? extends Temporal> target) {
-        return listFormat(target, temporalFormattingUtils::format);
+        return listFormatStrings(target, () -> temporalFormattingUtils::format);
     }
 
     public <T extends Temporal> List<String> listFormat(final List<T> target, final Locale locale) {
-        return listFormat(target, time -> temporalFormattingUtils.format(time, locale));
+        return listFormatStrings(target, () -> time -> temporalFormattingUtils.format(time, locale));
     }
 
     public <T extends Temporal> List<String> listFormat(final List<T> target, final String pattern) {
-        return listFormat(target, time -> temporalFormattingUtils.format(time, pattern));
+        return listFormatStrings(target, () -> temporalFormattingUtils.seriesFormat(pattern, null));
     }
 
     public <T extends Temporal> List<String> listFormat(final List<T> target, final String pattern, final Locale locale) {
-        return listFormat(target, time -> temporalFormattingUtils.format(time, pattern, locale));
+        return listFormatStrings(target, () -> temporalFormattingUtils.seriesFormat(pattern, locale));
+    }
+    
+    /**
+     * Formats the page of the list of at most <tt>limit</tt> elements starting at
+     * <tt>offset</tt>, leaving the rest of the list unformatted.
+     *
+     * @since 2.1.1
+     */
+    public <T extends Temporal> List<String> listFormat(final List<T> target, final int offset, final int limit) {
+        return listFormat(page(target, offset, limit));
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public <T extends Temporal> List<String> listFormat(
+            final List<T> target, final String pattern, final int offset, final int limit) {
+        return listFormat(page(target, offset, limit), pattern);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public <T extends Temporal> List<String> listFormat(
+            final List<T> target, final String pattern, final Locale locale, final int offset, final int limit) {
+        return listFormat(page(target, offset, limit), pattern, locale);
+    }
+
+    /**
+     * Returns a read-only view of the list, formatting each element the first time it is read.
+     * Iterations that copy the list first, as <tt>th:each</tt> in Thymeleaf 2.1 does, read all
+     * of its elements: for rendering a page, iterate a <tt>subList</tt> of the view, or use the
+     * <tt>offset</tt> and <tt>limit</tt> variants of <tt>listFormat</tt>.
+     *
+     * @since 2.1.1
+     */
+    public List<String> listFormatLazy(final List<? extends Temporal> target) {
+        return listFormatLazy(target, temporalFormattingUtils::format);
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public List<String> listFormatLazy(final List<? extends Temporal> target, final Locale locale) {
+        Validate.notNull(locale, "Locale cannot be null");
+        return listFormatLazy(target, time -> temporalFormattingUtils.format(time, locale));
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public List<String> listFormatLazy(final List<? extends Temporal> target, final String pattern) {
+        Validate.notEmpty(pattern, "Pattern cannot be null or empty");
+        return listFormatLazy(target, time -> temporalFormattingUtils.format(time, pattern));
+    }
+
+    /**
+     *
+     * @since 2.1.1
+     */
+    public List<String> listFormatLazy(final List<? extends Temporal> target, final String pattern, final Locale locale) {
+        Validate.notEmpty(pattern, "Pattern cannot be null or empty");
+        return listFormatLazy(target, time -> temporalFormattingUtils.format(time, pattern, locale));
+    }
+
+    public void listFormatTo(final List<? extends Temporal> target, final String separator, final Appendable output) {
+        listFormatTo(target, separator, output, temporalFormattingUtils::formatTo);
+    }
+
+    public void listFormatTo(final List<? extends Temporal> target, final String pattern,
+            final String separator, final Appendable output) {
+        listFormatTo(target, separator, output, (time, out) -> temporalFormattingUtils.formatTo(time, pattern, out));
+    }
+
+    public void listFormatTo(final List<? extends Temporal> target, final String pattern, final Locale locale,
+            final String separator, final Appendable output) {
+        listFormatTo(target, separator, output,
+            (time, out) -> temporalFormattingUtils.formatTo(time, pattern, locale, out));
     }
     
     public List<Integer> listDay(final List<? extends Temporal> target) {
-        return listFormat(target, temporalFormattingUtils::day);
+        return listInteger(target, temporalFormattingUtils::dayInt);
+    }
+
+    public int[] listDayInt(final List<? extends Temporal> target) {
+        return listInt(target, temporalFormattingUtils::dayInt);
     }
     
     public List<Integer> listMonth(final List<? extends Temporal> target) {
-        return listFormat(target, temporalFormattingUtils::month);
+        return listInteger(target, temporalFormattingUtils::monthInt);
+    }
+
+    public int[] listMonthInt(final List<? extends Temporal> target) {
+        return listInt(target, temporalFormattingUtils::monthInt);
     }
 
     public List<String> listMonthName(final List<? extends Temporal> target) {
-        return listFormat(target, temporalFormattingUtils::monthName);
+        return listString(target, temporalFormattingUtils::monthName);
     }
 
     public List<String> listMonthNameShort(final List<? extends Temporal> target) {
-        return listFormat(target, temporalFormattingUtils::monthNameShort);
+        return listString(target, temporalFormattingUtils::monthNameShort);
     }
 
     public List<Integer> listYear(final List<? extends Temporal> target) {
-        return listFormat(target, temporalFormattingUtils::year);
+        return listInteger(target, temporalFormattingUtils::yearInt);
+    }
+
+    public int[] listYearInt(final List<? extends Temporal> target) {
+        return listInt(target, temporalFormattingUtils::yearInt);
     }
     
     public List<Integer> listDayOfWeek(final List<? extends Temporal> target) {
-        return listFormat(target, temporalFormattingUtils::dayOfWeek);
+        return listInteger(target, temporalFormattingUtils::dayOfWeekInt);
+    }
+
+    public int[] listDayOfWeekInt(final List<? extends Temporal> target) {
+        return listInt(target, temporalFormattingUtils::dayOfWeekInt);
     }
 
     public List<String> listDayOfWeekName(final List<? extends Temporal> target) {
-        return listFormat(target, temporalFormattingUtils::dayOfWeekName);
+        return listString(target, temporalFormattingUtils::dayOfWeekName);
     }
     
     public List<String> listDayOfWeekNameShort(final List<? extends Temporal> target) {
-        return listFormat(target, temporalFormattingUtils::dayOfWeekNameShort);
+        return listString(target, temporalFormattingUtils::dayOfWeekNameShort);
     }
     
     public List<Integer> listHour(final List<? extends Temporal> target) {
-        return listFormat(target, temporalFormattingUtils::hour);
+        return listInteger(target, temporalFormattingUtils::hourInt);
+    }
+
+    public int[] listHourInt(final List<? extends Temporal> target) {
+        return listInt(target, temporalFormattingUtils::hourInt);
     }
 
     public List<Integer> listMinute(final List<? extends Temporal> target) {
-        return listFormat(target, temporalFormattingUtils::minute);
+        return listInteger(target, temporalFormattingUtils::minuteInt);
+    }
+
+    public int[] listMinuteInt(final List<? extends Temporal> target) {
+        return listInt(target, temporalFormattingUtils::minuteInt);
     }
 
     public List<Integer> listSecond(final List<? extends Temporal> target) {
-        return listFormat(target, temporalFormattingUtils::second);
+        return listInteger(target, temporalFormattingUtils::secondInt);
+    }
+
+    public int[] listSecondInt(final List<? extends Temporal> target) {
+        return listInt(target, temporalFormattingUtils::secondInt);
     }
 
     public List<Integer> listNanosecond(final List<? extends Temporal> target) {
-        return listFormat(target, temporalFormattingUtils::nanosecond);
+        return listInteger(target, temporalFormattingUtils::nanosecondInt);
+    }
+
+    public int[] listNanosecondInt(final List<? extends Temporal> target) {
+        return listInt(target, temporalFormattingUtils::nanosecondInt);
     }
 
     public List<String> listFormatISO(final List<? extends Temporal> target) {
-        return listFormat(target, temporalFormattingUtils::formatISO);
+        return listString(target, temporalFormattingUtils::formatISO);
+    }
+
+    public List<String> listFormatISOLocalDate(final List<? extends Temporal> target) {
+        return listString(target, temporalFormattingUtils::formatISOLocalDate);
+    }
+
+    public List<String> listFormatISOLocalDateTime(final List<? extends Temporal> target) {
+        return listString(target, temporalFormattingUtils::formatISOLocalDateTime);
+    }
+
+    public List<String> listFormatISOInstant(final List<? extends Temporal> target) {
+        return listString(target, temporalFormattingUtils::formatISOInstant);
+    }
+
+    public List<String> listFormatRFC1123(final List<? extends Temporal> target) {
+        return listString(target, temporalFormattingUtils::formatRFC1123);
     }
     
-    private <R extends Object, T extends Temporal> List<R> listFormat(
-            final List<T> target, final Function<T, R> mapFunction) {
+    /*
+     * Formatting functions may keep state, so they are obtained from a supplier, once for the
+     * whole list or once for each chunk of it when it is formatted in parallel. Each of them
+     * formats the distinct values it is given only once.
+     */
+    private List<String> listFormatStrings(
+            final List<? extends Temporal> target, final Supplier<Function<Object, String>> formatFunctions) {
+        Validate.notNull(target, "Target cannot be null");
+        if (TemporalParallelFormatter.isParallel(target.size())) {
+            final String[] result = TemporalParallelFormatter.format(target.toArray(),
+                () -> TemporalDistinctFormatter.forBatch(formatFunctions.get(), target.size()));
+            final List<String> resultList = new ArrayList<>(result.length);
+            Collections.addAll(resultList, result);
+            return resultList;
+        }
+        return listString(target, TemporalDistinctFormatter.forBatch(formatFunctions.get(), target.size()));
+    }
+
+    /*
+     * Elements may be read in any order and from several threads, so the view formats them one
+     * by one instead of with a (stateful) series formatting function.
+     */
+    private List<String> listFormatLazy(
+            final List<? extends Temporal> target, final Function<Object, String> formatFunction) {
+        Validate.notNull(target, "Target cannot be null");
+        return new TemporalFormattedList(target, formatFunction);
+    }
+
+    private static <T> List<T> page(final List<T> target, final int offset, final int limit) {
+        Validate.notNull(target, "Target cannot be null");
+        Validate.isTrue(offset >= 0, "Offset cannot be negative");
+        Validate.isTrue(limit >= 0, "Limit cannot be negative");
+        final int size = target.size();
+        final int from = Math.min(offset, size);
+        return target.subList(from, from + Math.min(limit, size - from));
+    }
+
+    private List<String> listString(
+            final List<? extends Temporal> target, final Function<Object, String> formatFunction) {
+        Validate.notNull(target, "Target cannot be null");
+        final List<String> result = new ArrayList<>(target.size());
+        if (target instanceof RandomAccess) {
+            for (int i = 0, n = target.size(); i < n; i++) {
+                result.add(formatFunction.apply(target.get(i)));
+            }
+        } else {
+            for (final Temporal time : target) {
+                result.add(formatFunction.apply(time));
+            }
+        }
+        return result;
+    }
+
+    private List<Integer> listInteger(final List<? extends Temporal> target, final ToIntFunction<Object> mapFunction) {
+        Validate.notNull(target, "Target cannot be null");
+        final List<Integer> result = new ArrayList<>(target.size());
+        if (target instanceof RandomAccess) {
+            for (int i = 0, n = target.size(); i < n; i++) {
+                result.add(Integer.valueOf(mapFunction.applyAsInt(target.get(i))));
+            }
+        } else {
+            for (final Temporal time : target) {
+                result.add(Integer.valueOf(mapFunction.applyAsInt(time)));
+            }
+        }
+        return result;
+    }
+
+    private int[] listInt(final List<? extends Temporal> target, final ToIntFunction<Object> mapFunction) {
+        Validate.notNull(target, "Target cannot be null");
+        final int[] result = new int[target.size()];
+        int i = 0;
+        for (final Temporal time : target) {
+            result[i++] = mapFunction.applyAsInt(time);
+        }
+        return result;
+    }
+
+    private void listFormatTo(final List<? extends Temporal> target, final String separator,
+            final Appendable output, final BiConsumer<Object, Appendable> formatFunction) {
         Validate.notNull(target, "Target cannot be null");
-        return target.stream()
-            .map(time -> mapFunction.apply(time))
-            .collect(toList());
+        Validate.notNull(separator, "Separator cannot be null");
+        Validate.notNull(output, "Output cannot be null");
+        boolean first = true;
+        for (final Temporal time : target) {
+            if (!first) {
+                TemporalFormattingUtils.append(separator, output);
+            }
+            formatFunction.accept(time, output);
+            first = false;
+        }
     }
     
 }
@@ -0,0 +1,63 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2011-2014, The THYMELEAF team (http://www.thymeleaf.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.util.Locale;
+
+/**
+ * <p>
+ * Receiver of the events of the shared caches and fast paths, for exporting them to a metrics
+ * library. All methods do nothing by default, so implementations only override the events they
+ * are interested in.
+ * </p>
+ * <p>
+ * Methods are called from the template processing threads, so implementations must be thread-safe
+ * and cheap, e.g. incrementing a counter.
+ * </p>
+ *
+ * @author Jos&eacute; Miguel Samper
+ *
+ * @since 2.1.1
+ */
+public interface TemporalMetricsSink {
+
+    /**
+     * A formatter has been created for a pattern missing from the formatter cache.
+     */
+    default void formatterCreated(final String pattern, final Locale locale) {
+        // Nothing to do by default
+    }
+
+    /**
+     * A pattern has been used enough times to be compiled into a specialized formatter.
+     */
+    default void patternSpecialized(final String pattern) {
+        // Nothing to do by default
+    }
+
+    default void resultCacheHit() {
+        // Nothing to do by default
+    }
+
+    default void resultCacheMiss() {
+        // Nothing to do by default
+    }
+
+}
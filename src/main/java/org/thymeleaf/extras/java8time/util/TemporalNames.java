@@ -0,0 +1,91 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2011-2014, The THYMELEAF team (http://www.thymeleaf.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.time.DayOfWeek;
+import java.time.Month;
+import java.time.format.TextStyle;
+import java.util.Locale;
+
+/**
+ * Immutable tables of localized month and day-of-week names for a locale, resolved once from
+ * the JDK locale data. Names are the same ones the <tt>MMMM</tt>, <tt>MMM</tt>, <tt>EEEE</tt> and
+ * <tt>EEE</tt> patterns produce for the ISO chronology.
+ *
+ * @author Jos&eacute; Miguel Samper
+ *
+ * @since 2.1.1
+ */
+final class TemporalNames {
+
+    private static final int MAX_LOCALES = 256;
+
+    private static final BoundedCache<Locale, TemporalNames> NAMES = new BoundedCache<>(MAX_LOCALES);
+
+    private final String[] monthNames;
+    private final String[] monthNamesShort;
+    private final String[] dayOfWeekNames;
+    private final String[] dayOfWeekNamesShort;
+
+    private TemporalNames(final Locale locale) {
+        super();
+        final Month[] months = Month.values();
+        this.monthNames = new String[months.length];
+        this.monthNamesShort = new String[months.length];
+        for (int i = 0; i < months.length; i++) {
+            this.monthNames[i] = months[i].getDisplayName(TextStyle.FULL, locale);
+            this.monthNamesShort[i] = months[i].getDisplayName(TextStyle.SHORT, locale);
+        }
+        final DayOfWeek[] daysOfWeek = DayOfWeek.values();
+        this.dayOfWeekNames = new String[daysOfWeek.length];
+        this.dayOfWeekNamesShort = new String[daysOfWeek.length];
+        for (int i = 0; i < daysOfWeek.length; i++) {
+            this.dayOfWeekNames[i] = daysOfWeek[i].getDisplayName(TextStyle.FULL, locale);
+            this.dayOfWeekNamesShort[i] = daysOfWeek[i].getDisplayName(TextStyle.SHORT, locale);
+        }
+    }
+
+    static TemporalNames forLocale(final Locale locale) {
+        return NAMES.computeIfAbsent(locale, TemporalNames::new);
+    }
+
+    /**
+     * @param month the month of year, from 1 (January) to 12 (December)
+     */
+    String monthName(final int month) {
+        return monthNames[month - 1];
+    }
+
+    String monthNameShort(final int month) {
+        return monthNamesShort[month - 1];
+    }
+
+    /**
+     * @param dayOfWeek the day of week, from 1 (Monday) to 7 (Sunday)
+     */
+    String dayOfWeekName(final int dayOfWeek) {
+        return dayOfWeekNames[dayOfWeek - 1];
+    }
+
+    String dayOfWeekNameShort(final int dayOfWeek) {
+        return dayOfWeekNamesShort[dayOfWeek - 1];
+    }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2011-2014, The THYMELEAF team (http://www.thymeleaf.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * <p>
+ * Formatter for the current instant that caches its output for the current second, in the same
+ * way fast logging frameworks do with their timestamps.
+ * </p>
+ * <p>
+ * The pattern is split around its fraction-of-second field (<tt>S</tt>), if any: the text before
+ * and after it is formatted once per second, and only the fraction digits are computed for each
+ * call. Patterns with any other sub-second field are formatted in full every time.
+ * </p>
+ *
+ * @author Jos&eacute; Miguel Samper
+ *
+ * @since 2.1.1
+ */
+final class TemporalNowFormatter {
+
+    private static final int MAX_SIZE = 100;
+
+    private static final BoundedCache<PatternKey, TemporalNowFormatter> NOW_FORMATTERS = new BoundedCache<>(MAX_SIZE);
+
+    private final ZoneId zoneId;
+    private final DateTimeFormatter formatter;
+    private final DateTimeFormatter prefixFormatter;
+    private final DateTimeFormatter suffixFormatter;
+    private final int fractionDigits;
+    private final boolean cacheable;
+
+    private volatile Snapshot snapshot;
+
+    private TemporalNowFormatter(final String pattern, final Locale locale, final ZoneId zoneId) {
+        super();
+        this.zoneId = zoneId;
+        this.formatter = DateTimeFormatter.ofPattern(pattern, locale);
+        int fractionStart = -1;
+        int fractionEnd = -1;
+        boolean cacheable = true;
+        boolean quoted = false;
+        for (int i = 0; i < pattern.length() && cacheable; i++) {
+            final char c = pattern.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted) {
+                if (c == 'S') {
+                    if (fractionStart < 0) {
+                        fractionStart = i;
+                        while (i + 1 < pattern.length() && pattern.charAt(i + 1) == 'S') {
+                            i++;
+                        }
+                        fractionEnd = i + 1;
+                        cacheable = fractionStart == 0 || pattern.charAt(fractionStart - 1) != 'p';
+                    } else {
+                        cacheable = false;
+                    }
+                } else if (c == 'n' || c == 'N' || c == 'A' || c == '[' || c == ']') {
+                    cacheable = false;
+                }
+            }
+        }
+        this.cacheable = cacheable;
+        if (cacheable && fractionStart >= 0) {
+            this.fractionDigits = fractionEnd - fractionStart;
+            this.prefixFormatter = DateTimeFormatter.ofPattern(pattern.substring(0, fractionStart), locale);
+            this.suffixFormatter = DateTimeFormatter.ofPattern(pattern.substring(fractionEnd), locale);
+        } else {
+            this.fractionDigits = 0;
+            this.prefixFormatter = null;
+            this.suffixFormatter = null;
+        }
+    }
+
+    static TemporalNowFormatter forPattern(final String pattern, final Locale locale, final ZoneId zoneId) {
+        return NOW_FORMATTERS.computeIfAbsent(new PatternKey(pattern, locale, zoneId),
+            key -> new TemporalNowFormatter(key.pattern, key.locale, key.zoneId));
+    }
+
+    /**
+     * @return the same output as formatting the local date-time of the instant in the zone of
+     *         this formatter.
+     */
+    String format(final Instant now) {
+        if (!cacheable) {
+            return formatter.format(LocalDateTime.ofInstant(now, zoneId));
+        }
+        final long epochSecond = now.getEpochSecond();
+        Snapshot current = snapshot;
+        if (current == null || current.epochSecond != epochSecond) {
+            current = new Snapshot(epochSecond, LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), zoneId));
+            snapshot = current;
+        }
+        if (fractionDigits == 0) {
+            return current.text;
+        }
+        final char[] buffer = new char[current.prefix.length() + fractionDigits + current.suffix.length()];
+        current.prefix.getChars(0, current.prefix.length(), buffer, 0);
+        int fraction = now.getNano();
+        for (int digits = 9; digits > fractionDigits; digits--) {
+            fraction /= 10;
+        }
+        final int fractionStart = current.prefix.length();
+        for (int i = fractionStart + fractionDigits - 1; i >= fractionStart; i--) {
+            buffer[i] = (char) ('0' + fraction % 10);
+            fraction /= 10;
+        }
+        current.suffix.getChars(0, current.suffix.length(), buffer, fractionStart + fractionDigits);
+        return new String(buffer);
+    }
+
+
+    private final class Snapshot {
+
+        private final long epochSecond;
+        private final String text;
+        private final String prefix;
+        private final String suffix;
+
+        Snapshot(final long epochSecond, final LocalDateTime dateTime) {
+            super();
+            this.epochSecond = epochSecond;
+            if (fractionDigits == 0) {
+                this.text = formatter.format(dateTime);
+                this.prefix = null;
+                this.suffix = null;
+            } else {
+                this.text = null;
+                this.prefix = prefixFormatter.format(dateTime);
+                this.suffix = suffixFormatter.format(dateTime);
+            }
+        }
+
+    }
+
+}
@@ -36,7 +36,11 @@
 import java.time.format.TextStyle;
 import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
 import org.thymeleaf.util.Validate;
 
 /**
@@ -48,69 +52,327 @@
  */
 public final class TemporalObjects {
 
+    /**
+     * Default maximum number of pattern-based formatters kept in the shared formatter cache.
+     */
+    public static final int DEFAULT_FORMATTER_CACHE_MAX_SIZE = 500;
+
+    private static final BoundedCache<PatternKey, TemporalPatternFormatter> FORMATTER_CACHE =
+        new BoundedCache<>(DEFAULT_FORMATTER_CACHE_MAX_SIZE);
+
+    // Zone and locale arguments given as strings are resolved once and then shared
+    private static final int RESOLUTION_CACHE_MAX_SIZE = 1000;
+    private static final BoundedCache<String, ZoneId> ZONE_ID_CACHE = new BoundedCache<>(RESOLUTION_CACHE_MAX_SIZE);
+    private static final BoundedCache<String, ZoneId> TIME_ZONE_CACHE = new BoundedCache<>(RESOLUTION_CACHE_MAX_SIZE);
+    private static final BoundedCache<String, Locale> LOCALE_CACHE = new BoundedCache<>(RESOLUTION_CACHE_MAX_SIZE);
+
+    // Indexes of the default formatters in the per-locale tables
+    private static final int LOCAL_DATE = 0;
+    private static final int LOCAL_DATE_TIME = 1;
+    private static final int ZONED_DATE_TIME = 2;
+    private static final int INSTANT = 3;
+    private static final int LOCAL_TIME = 4;
+    private static final int OFFSET_TIME = 5;
+    private static final int OFFSET_DATE_TIME = 6;
+    private static final int YEAR = 7;
+    private static final int YEAR_MONTH = 8;
+    private static final int DEFAULT_FORMATTER_TYPES = 9;
+
+    private static final int DEFAULT_FORMATTERS_MAX_LOCALES = 256;
+
+    private static volatile Map<Locale, DateTimeFormatter[]> defaultFormatters = Collections.emptyMap();
+
+    private static volatile boolean fastPathsEnabled = true;
+
+    private static volatile TemporalMetricsSink metricsSink = null;
+
     public TemporalObjects() {
         super();
     }
 
+    /**
+     * Obtains a formatter for the given pattern, locale and (optional) override zone. Formatters
+     * are immutable and thread-safe, so they are kept in a JVM-wide cache shared by all the
+     * <tt>#temporals</tt> instances instead of parsing the pattern again on every call.
+     * @param pattern the pattern to be used, as specified by {@link DateTimeFormatter}
+     * @param locale the locale to be used
+     * @param zoneId the override zone of the formatter, or null for no override
+     * @return a DateTimeFormatter
+     */
+    public static DateTimeFormatter formatterFor(final String pattern, final Locale locale, final ZoneId zoneId) {
+        return patternFormatterFor(pattern, locale, zoneId).getFormatter();
+    }
+
+    static TemporalPatternFormatter patternFormatterFor(final String pattern, final Locale locale, final ZoneId zoneId) {
+        Validate.notNull(pattern, "Pattern cannot be null");
+        Validate.notNull(locale, "Locale cannot be null");
+        return FORMATTER_CACHE.computeIfAbsent(new PatternKey(pattern, locale, zoneId), key -> {
+            final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(key.pattern, key.locale);
+            final TemporalMetricsSink sink = metricsSink;
+            if (sink != null) {
+                sink.formatterCreated(key.pattern, key.locale);
+            }
+            if (key.zoneId == null) {
+                return new TemporalPatternFormatter(key.pattern, formatter, true);
+            }
+            // Specialized formatters do not perform zone conversions
+            return new TemporalPatternFormatter(key.pattern, formatter.withZone(key.zoneId), false);
+        });
+    }
+
+    public static int getFormatterCacheMaxSize() {
+        return FORMATTER_CACHE.getMaxSize();
+    }
+
+    /**
+     * Sets the maximum number of formatters kept in the shared formatter cache. Templates that
+     * build patterns dynamically will never make the cache grow beyond this size.
+     * @param maxSize the new maximum size, greater than zero
+     */
+    public static void setFormatterCacheMaxSize(final int maxSize) {
+        FORMATTER_CACHE.setMaxSize(maxSize);
+    }
+
+    public static int getPatternPromotionThreshold() {
+        return TemporalPatternFormatter.getPromotionThreshold();
+    }
+
+    /**
+     * Sets the number of calls after which a pattern containing only numeric fields and literals
+     * is compiled into a specialized formatter. Zero disables the specialized formatters.
+     * @param threshold the new threshold, zero or greater
+     */
+    public static void setPatternPromotionThreshold(final int threshold) {
+        Validate.isTrue(threshold >= 0, "Threshold cannot be negative");
+        TemporalPatternFormatter.setPromotionThreshold(threshold);
+    }
+
+    public static int getParallelThreshold() {
+        return TemporalParallelFormatter.getThreshold();
+    }
+
+    /**
+     * Sets the minimum size of the arrays and lists formatted in parallel by <tt>arrayFormat</tt>
+     * and <tt>listFormat</tt>, on a fork-join pool of their own. Zero (the default) disables
+     * parallel formatting.
+     * @param threshold the new threshold, zero or greater
+     */
+    public static void setParallelThreshold(final int threshold) {
+        Validate.isTrue(threshold >= 0, "Threshold cannot be negative");
+        TemporalParallelFormatter.setThreshold(threshold);
+    }
+
+    public static int getParallelism() {
+        return TemporalParallelFormatter.getParallelism();
+    }
+
+    /**
+     * Sets the number of threads of the pool used for parallel formatting. By default, the number
+     * of available processors.
+     * @param parallelism the new number of threads, greater than zero
+     */
+    public static void setParallelism(final int parallelism) {
+        Validate.isTrue(parallelism > 0, "Parallelism must be greater than zero");
+        TemporalParallelFormatter.setParallelism(parallelism);
+    }
+
+    public static boolean isFastPathsEnabled() {
+        return fastPathsEnabled;
+    }
+
+    /**
+     * Enables or disables the hand-written ISO-8601 and RFC-1123 printers, the incremental
+     * formatting of series and the formatting of each distinct value of a batch only once. When
+     * disabled, all formatting is done by {@link DateTimeFormatter}.
+     * The output is the same in both cases.
+     * @param enabled whether the fast paths are used
+     */
+    public static void setFastPathsEnabled(final boolean enabled) {
+        fastPathsEnabled = enabled;
+    }
+
+    public static TemporalMetricsSink getMetricsSink() {
+        return metricsSink;
+    }
+
+    /**
+     * Sets the receiver of the events of the shared caches and fast paths.
+     * @param sink the new sink, or null for not reporting any event
+     */
+    public static void setMetricsSink(final TemporalMetricsSink sink) {
+        metricsSink = sink;
+    }
+
+    /**
+     * Stops the threads started by this library (the pool used for parallel formatting, letting
+     * its running tasks complete, and the refresh thread of the {@link TemporalCoarseClock}s).
+     * Meant to be called when the application is undeployed, for example from
+     * <tt>ServletContextListener.contextDestroyed</tt>. Formatting keeps working afterwards,
+     * starting the threads again if needed.
+     */
+    public static void shutdown() {
+        TemporalParallelFormatter.shutdown();
+        TemporalCoarseClock.shutdown();
+    }
+
     public static DateTimeFormatter formatterFor(final Object target, final Locale locale) {
         Validate.notNull(target, "Target cannot be null");
         Validate.notNull(locale, "Locale cannot be null");
+        final int type = defaultFormatterType(target);
+        DateTimeFormatter[] formatters = defaultFormatters.get(locale);
+        if (formatters == null) {
+            formatters = registerDefaultFormatters(locale);
+            if (formatters == null) {
+                // Locales beyond the limit only build the formatter they need, without locking
+                return createDefaultFormatter(type, locale);
+            }
+        }
+        return formatters[type];
+    }
+
+    private static int defaultFormatterType(final Object target) {
         if (target instanceof LocalDate) {
-            return DateTimeFormatter.ofLocalizedDate(FormatStyle.LONG).withLocale(locale);
+            return LOCAL_DATE;
         } else if (target instanceof LocalDateTime) {
-            return DateTimeFormatter.ofLocalizedDateTime(FormatStyle.LONG, FormatStyle.MEDIUM).withLocale(locale);
+            return LOCAL_DATE_TIME;
         } else if (target instanceof ZonedDateTime) {
-            return DateTimeFormatter.ofLocalizedDateTime(FormatStyle.LONG).withLocale(locale);
+            return ZONED_DATE_TIME;
         } else if (target instanceof Instant) {
-            return new DateTimeFormatterBuilder().appendInstant().toFormatter();
+            return INSTANT;
         } else if (target instanceof LocalTime) {
-            return DateTimeFormatter.ofLocalizedTime(FormatStyle.MEDIUM).withLocale(locale);
+            return LOCAL_TIME;
         } else if (target instanceof OffsetTime) {
-            // FIXME: localise
-            return new DateTimeFormatterBuilder()
-                .appendValue(ChronoField.HOUR_OF_DAY)
-                .appendLiteral(':')
-                .appendValue(ChronoField.MINUTE_OF_HOUR)
-                .appendLiteral(':')
-                .appendValue(ChronoField.SECOND_OF_MINUTE)
-                .appendLocalizedOffset(TextStyle.FULL)
-                .toFormatter()
-                .withLocale(locale);
+            return OFFSET_TIME;
         } else if (target instanceof OffsetDateTime) {
-            // FIXME: localise
-            return new DateTimeFormatterBuilder()
-                .appendText(ChronoField.MONTH_OF_YEAR)
-                .appendLiteral(' ')
-                .appendValue(ChronoField.DAY_OF_MONTH)
-                .appendLiteral(", ")
-                .appendValue(ChronoField.YEAR)
-                .appendLiteral(' ')
-                .appendValue(ChronoField.HOUR_OF_DAY)
-                .appendLiteral(':')
-                .appendValue(ChronoField.MINUTE_OF_HOUR)
-                .appendLiteral(':')
-                .appendValue(ChronoField.SECOND_OF_MINUTE)
-                .appendLocalizedOffset(TextStyle.FULL)
-                .toFormatter()
-                .withLocale(locale);
+            return OFFSET_DATE_TIME;
         } else if (target instanceof Year) {
-            return new DateTimeFormatterBuilder()
-                .appendValue(ChronoField.YEAR)
-                .toFormatter();
+            return YEAR;
         } else if (target instanceof YearMonth) {
-            // FIXME: localise
-            return new DateTimeFormatterBuilder()
-                .appendText(ChronoField.MONTH_OF_YEAR)
-                .appendLiteral(' ')
-                .appendValue(ChronoField.YEAR)
-                .toFormatter()
-                .withLocale(locale);
+            return YEAR_MONTH;
         } else {
             throw new IllegalArgumentException(
                 "Cannot format object of class \"" + target.getClass().getName() + "\" as a date");
         }
     }
+
+    /*
+     * The table of default formatters is replaced (copy-on-write) instead of modified, so lookups
+     * never need any locking. Locales beyond the limit are not registered: null is returned for
+     * them, and once the table is full they do not take the lock at all.
+     */
+    private static DateTimeFormatter[] registerDefaultFormatters(final Locale locale) {
+        if (defaultFormatters.size() >= DEFAULT_FORMATTERS_MAX_LOCALES) {
+            return null;
+        }
+        synchronized (TemporalObjects.class) {
+            DateTimeFormatter[] formatters = defaultFormatters.get(locale);
+            if (formatters != null) {
+                return formatters;
+            }
+            if (defaultFormatters.size() >= DEFAULT_FORMATTERS_MAX_LOCALES) {
+                return null;
+            }
+            formatters = new DateTimeFormatter[DEFAULT_FORMATTER_TYPES];
+            for (int type = 0; type < DEFAULT_FORMATTER_TYPES; type++) {
+                formatters[type] = createDefaultFormatter(type, locale);
+            }
+            final Map<Locale, DateTimeFormatter[]> newDefaultFormatters = new HashMap<>(defaultFormatters);
+            newDefaultFormatters.put(locale, formatters);
+            defaultFormatters = Collections.unmodifiableMap(newDefaultFormatters);
+            return formatters;
+        }
+    }
+
+    private static DateTimeFormatter createDefaultFormatter(final int type, final Locale locale) {
+        switch (type) {
+            case LOCAL_DATE:
+                return DateTimeFormatter.ofLocalizedDate(FormatStyle.LONG).withLocale(locale);
+            case LOCAL_DATE_TIME:
+                return DateTimeFormatter.ofLocalizedDateTime(FormatStyle.LONG, FormatStyle.MEDIUM).withLocale(locale);
+            case ZONED_DATE_TIME:
+                return DateTimeFormatter.ofLocalizedDateTime(FormatStyle.LONG).withLocale(locale);
+            case INSTANT:
+                return new DateTimeFormatterBuilder().appendInstant().toFormatter();
+            case LOCAL_TIME:
+                return DateTimeFormatter.ofLocalizedTime(FormatStyle.MEDIUM).withLocale(locale);
+            case OFFSET_TIME:
+                // FIXME: localise
+                return new DateTimeFormatterBuilder()
+                    .appendValue(ChronoField.HOUR_OF_DAY)
+                    .appendLiteral(':')
+                    .appendValue(ChronoField.MINUTE_OF_HOUR)
+                    .appendLiteral(':')
+                    .appendValue(ChronoField.SECOND_OF_MINUTE)
+                    .appendLocalizedOffset(TextStyle.FULL)
+                    .toFormatter()
+                    .withLocale(locale);
+            case OFFSET_DATE_TIME:
+                // FIXME: localise
+                return new DateTimeFormatterBuilder()
+                    .appendText(ChronoField.MONTH_OF_YEAR)
+                    .appendLiteral(' ')
+                    .appendValue(ChronoField.DAY_OF_MONTH)
+                    .appendLiteral(", ")
+                    .appendValue(ChronoField.YEAR)
+                    .appendLiteral(' ')
+                    .appendValue(ChronoField.HOUR_OF_DAY)
+                    .appendLiteral(':')
+                    .appendValue(ChronoField.MINUTE_OF_HOUR)
+                    .appendLiteral(':')
+                    .appendValue(ChronoField.SECOND_OF_MINUTE)
+                    .appendLocalizedOffset(TextStyle.FULL)
+                    .toFormatter()
+                    .withLocale(locale);
+            case YEAR:
+                return new DateTimeFormatterBuilder()
+                    .appendValue(ChronoField.YEAR)
+                    .toFormatter();
+            case YEAR_MONTH:
+                // FIXME: localise
+                return new DateTimeFormatterBuilder()
+                    .appendText(ChronoField.MONTH_OF_YEAR)
+                    .appendLiteral(' ')
+                    .appendValue(ChronoField.YEAR)
+                    .toFormatter()
+                    .withLocale(locale);
+            default:
+                throw new IllegalArgumentException("Unknown default formatter type " + type);
+        }
+    }
     
+    /**
+     * Resolves a zone given as a {@link ZoneId}, a {@link TimeZone} or a zone id string. Resolved
+     * zones are kept in a JVM-wide cache, so neither the id nor the rules of a zone given as a
+     * string are looked up again on each call.
+     * @param zoneId the zone to be resolved
+     * @return a ZoneId
+     * @since 2.1.1
+     */
+    public static ZoneId zoneId(final Object zoneId) {
+        Validate.notNull(zoneId, "ZoneId cannot be null");
+        if (zoneId instanceof ZoneId) {
+            return (ZoneId) zoneId;
+        } else if (zoneId instanceof TimeZone) {
+            // TimeZone.toZoneId() only depends on the id, and maps the short ids such as EST
+            final TimeZone timeZone = (TimeZone) zoneId;
+            return TIME_ZONE_CACHE.computeIfAbsent(timeZone.getID(), id -> timeZone.toZoneId());
+        } else {
+            return ZONE_ID_CACHE.computeIfAbsent(zoneId.toString(), ZoneId::of);
+        }
+    }
+
+    /**
+     * Resolves a locale given as a language tag (<tt>es-ES</tt>) or in the format of
+     * {@link Locale#toString()} (<tt>es_ES</tt>). Resolved locales are kept in a JVM-wide cache.
+     * @param locale the locale to be resolved
+     * @return a Locale
+     * @since 2.1.1
+     */
+    public static Locale locale(final String locale) {
+        Validate.notEmpty(locale, "Locale cannot be null or empty");
+        return LOCALE_CACHE.computeIfAbsent(locale, tag -> Locale.forLanguageTag(tag.replace('_', '-')));
+    }
+
     /**
      * Creates a Temporal object filling the missing fields of the provided time with default values.
      * @param target the temporal object to be converted
@@ -143,4 +405,5 @@ public static TemporalAccessor temporal(final Object target) {
                 "Cannot normalize class \"" + target.getClass().getName() + "\" as a date");
         }
     }
+
 }
@@ -0,0 +1,170 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2011-2014, The THYMELEAF team (http://www.thymeleaf.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Formatting of large arrays and lists in parallel, on a fork-join pool of its own so that
+ * template rendering never competes with other users of the common pool.
+ * </p>
+ * <p>
+ * The input is split into chunks and each chunk is formatted by one task with a formatting
+ * function of its own, as functions may keep state (see incremental formatting of series). The
+ * results are written in place, so the output order is the input order.
+ * </p>
+ *
+ * @author Jos&eacute; Miguel Samper
+ *
+ * @since 2.1.1
+ */
+final class TemporalParallelFormatter {
+
+    // Chunks smaller than this are not worth a task of their own
+    private static final int MIN_CHUNK_SIZE = 512;
+
+    private static volatile int threshold = 0;
+    private static volatile int parallelism = Runtime.getRuntime().availableProcessors();
+    private static volatile ForkJoinPool pool = null;
+
+    private TemporalParallelFormatter() {
+        super();
+    }
+
+    static int getThreshold() {
+        return threshold;
+    }
+
+    static void setThreshold(final int newThreshold) {
+        threshold = newThreshold;
+    }
+
+    static int getParallelism() {
+        return parallelism;
+    }
+
+    static synchronized void setParallelism(final int newParallelism) {
+        parallelism = newParallelism;
+        // The next input is formatted by a new pool. The old one is not shut down, as other threads
+        // may be about to submit their tasks to it: its idle (daemon) threads end by themselves
+        pool = null;
+    }
+
+    /*
+     * Shuts the current pool down, letting its running tasks complete. Inputs formatted meanwhile
+     * are formatted by the calling thread, and a new pool is created if parallel formatting is
+     * used again afterwards.
+     */
+    static synchronized void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    /**
+     * @return whether an input of the given size has to be formatted in parallel.
+     */
+    static boolean isParallel(final int size) {
+        final int currentThreshold = threshold;
+        return currentThreshold > 0 && size >= currentThreshold && parallelism > 1;
+    }
+
+    static String[] format(final Object[] target, final Supplier<Function<Object, String>> formatFunctions) {
+        final String[] result = new String[target.length];
+        if (target.length <= MIN_CHUNK_SIZE) {
+            // A single chunk gains no parallelism, so it is not worth handing it to the pool
+            formatChunk(target, result, 0, target.length, formatFunctions.get());
+            return result;
+        }
+        final ForkJoinPool currentPool = pool();
+        final int chunkSize = Math.max(MIN_CHUNK_SIZE, target.length / (currentPool.getParallelism() * 4));
+        try {
+            currentPool.invoke(new FormatTask(target, result, 0, target.length, chunkSize, formatFunctions));
+        } catch (final RejectedExecutionException e) {
+            // The pool was shut down before the task was accepted, so none of it was run
+            formatChunk(target, result, 0, target.length, formatFunctions.get());
+        }
+        return result;
+    }
+
+    private static void formatChunk(final Object[] target, final String[] result, final int start, final int end,
+            final Function<Object, String> formatFunction) {
+        for (int i = start; i < end; i++) {
+            result[i] = formatFunction.apply(target[i]);
+        }
+    }
+
+    private static ForkJoinPool pool() {
+        final ForkJoinPool currentPool = pool;
+        if (currentPool != null) {
+            return currentPool;
+        }
+        synchronized (TemporalParallelFormatter.class) {
+            if (pool == null) {
+                pool = new ForkJoinPool(parallelism);
+            }
+            return pool;
+        }
+    }
+
+
+    private static final class FormatTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] target;
+        private final String[] result;
+        private final int start;
+        private final int end;
+        private final int chunkSize;
+        private final Supplier<Function<Object, String>> formatFunctions;
+
+        FormatTask(final Object[] target, final String[] result, final int start, final int end,
+                final int chunkSize, final Supplier<Function<Object, String>> formatFunctions) {
+            super();
+            this.target = target;
+            this.result = result;
+            this.start = start;
+            this.end = end;
+            this.chunkSize = chunkSize;
+            this.formatFunctions = formatFunctions;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= chunkSize) {
+                formatChunk(target, result, start, end, formatFunctions.get());
+                return;
+            }
+            final int middle = (start + end) >>> 1;
+            invokeAll(
+                new FormatTask(target, result, start, middle, chunkSize, formatFunctions),
+                new FormatTask(target, result, middle, end, chunkSize, formatFunctions));
+        }
+
+    }
+
+}
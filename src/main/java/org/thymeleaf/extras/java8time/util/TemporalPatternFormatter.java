@@ -0,0 +1,374 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2011-2014, The THYMELEAF team (http://www.thymeleaf.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.time.DateTimeException;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * <p>
+ * Tiered formatter for a pattern. The first calls are executed by the standard
+ * {@link DateTimeFormatter}; once the pattern has been used more than the promotion threshold
+ * and it contains only numeric fields and literals, it is compiled into a specialized formatter
+ * that writes the digits straight into a char buffer.
+ * </p>
+ * <p>
+ * The specialized formatter produces exactly the same output as the standard one. Any value it
+ * cannot handle (unsupported fields, years out of the 1..9999 range...) is delegated to the
+ * standard formatter, so errors are reported in the same way too.
+ * </p>
+ *
+ * @author Jos&eacute; Miguel Samper
+ *
+ * @since 2.1.1
+ */
+final class TemporalPatternFormatter {
+
+    static final int DEFAULT_PROMOTION_THRESHOLD = 64;
+
+    private static volatile int promotionThreshold = DEFAULT_PROMOTION_THRESHOLD;
+
+    private final String pattern;
+    private final DateTimeFormatter formatter;
+
+    private static final AtomicIntegerFieldUpdater<TemporalPatternFormatter> CALLS =
+        AtomicIntegerFieldUpdater.newUpdater(TemporalPatternFormatter.class, "calls");
+
+    /*
+     * The calls are counted atomically, so the pattern is promoted exactly when the threshold is
+     * reached. Once it is, the counter and the flags are only read: a shared formatter is written
+     * at most threshold times, whatever the number of rendering threads.
+     */
+    private volatile int calls;
+    private volatile boolean promotable;
+    private volatile CompiledPattern compiledPattern;
+
+    TemporalPatternFormatter(final String pattern, final DateTimeFormatter formatter, final boolean promotable) {
+        super();
+        this.pattern = pattern;
+        this.formatter = formatter;
+        this.promotable = promotable;
+    }
+
+    static int getPromotionThreshold() {
+        return promotionThreshold;
+    }
+
+    /**
+     * A threshold of zero disables the specialized formatters.
+     */
+    static void setPromotionThreshold(final int threshold) {
+        promotionThreshold = threshold;
+    }
+
+    DateTimeFormatter getFormatter() {
+        return formatter;
+    }
+
+    boolean isSpecialized() {
+        return compiledPattern != null;
+    }
+
+    String format(final TemporalAccessor time) {
+        final CompiledPattern compiled = specialized();
+        if (compiled != null) {
+            final char[] buffer = new char[compiled.maxLength];
+            final int length = compiled.print(time, buffer);
+            if (length >= 0) {
+                return new String(buffer, 0, length);
+            }
+        }
+        return formatter.format(time);
+    }
+
+    void formatTo(final TemporalAccessor time, final Appendable output) {
+        final CompiledPattern compiled = specialized();
+        if (compiled != null) {
+            final char[] buffer = new char[compiled.maxLength];
+            final int length = compiled.print(time, buffer);
+            if (length >= 0) {
+                TemporalFormattingUtils.append(buffer, length, output);
+                return;
+            }
+        }
+        formatter.formatTo(time, output);
+    }
+
+    private CompiledPattern specialized() {
+        final CompiledPattern compiled = compiledPattern;
+        if (compiled != null) {
+            return compiled;
+        }
+        if (promotable) {
+            final int threshold = promotionThreshold;
+            if (threshold > 0 && (calls >= threshold || CALLS.incrementAndGet(this) >= threshold)) {
+                return promote();
+            }
+        }
+        return null;
+    }
+
+    private synchronized CompiledPattern promote() {
+        // Threads reaching the threshold at the same time only compile the pattern once
+        if (compiledPattern != null || !promotable) {
+            return compiledPattern;
+        }
+        final CompiledPattern newCompiled = CompiledPattern.compile(pattern);
+        if (newCompiled == null) {
+            promotable = false;
+        } else {
+            compiledPattern = newCompiled;
+            final TemporalMetricsSink sink = TemporalObjects.getMetricsSink();
+            if (sink != null) {
+                sink.patternSpecialized(pattern);
+            }
+        }
+        return newCompiled;
+    }
+
+
+    /*
+     * Pattern compiled into a flat list of operations: literals, zero-padded numeric fields,
+     * two-digit reduced years and fractions of second.
+     */
+    static final class CompiledPattern {
+
+        private static final int LITERAL = 0;
+        private static final int VALUE = 1;
+        private static final int YEAR = 2;
+        private static final int REDUCED_YEAR = 3;
+        private static final int FRACTION = 4;
+
+        private final int[] operations;
+        private final ChronoField[] fields;
+        private final int[] widths;
+        private final String[] literals;
+        final int maxLength;
+
+        private CompiledPattern(final List<Part> parts) {
+            super();
+            final int size = parts.size();
+            this.operations = new int[size];
+            this.fields = new ChronoField[size];
+            this.widths = new int[size];
+            this.literals = new String[size];
+            int length = 0;
+            for (int i = 0; i < size; i++) {
+                final Part part = parts.get(i);
+                this.operations[i] = part.operation;
+                this.fields[i] = part.field;
+                this.widths[i] = part.width;
+                this.literals[i] = part.literal;
+                length += part.operation == LITERAL ? part.literal.length() : Math.max(part.width, 4);
+            }
+            this.maxLength = length;
+        }
+
+        /**
+         * Compiles the pattern following the same rules as {@link DateTimeFormatter#ofPattern(String)}.
+         * @return the compiled pattern, or null if the pattern contains anything other than
+         *         numeric fields and literals.
+         */
+        static CompiledPattern compile(final String pattern) {
+            final List<Part> parts = new ArrayList<>();
+            final StringBuilder literal = new StringBuilder();
+            final int length = pattern.length();
+            int pos = 0;
+            while (pos < length) {
+                final char c = pattern.charAt(pos);
+                if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
+                    final int start = pos;
+                    while (pos < length && pattern.charAt(pos) == c) {
+                        pos++;
+                    }
+                    final Part field = field(c, pos - start);
+                    if (field == null) {
+                        return null;
+                    }
+                    if (literal.length() > 0) {
+                        parts.add(new Part(LITERAL, null, 0, literal.toString()));
+                        literal.setLength(0);
+                    }
+                    parts.add(field);
+                } else if (c == '\'') {
+                    final int start = pos++;
+                    for (; pos < length; pos++) {
+                        if (pattern.charAt(pos) == '\'') {
+                            if (pos + 1 < length && pattern.charAt(pos + 1) == '\'') {
+                                pos++;
+                            } else {
+                                break;
+                            }
+                        }
+                    }
+                    if (pos >= length) {
+                        return null;
+                    }
+                    final String quoted = pattern.substring(start + 1, pos);
+                    literal.append(quoted.isEmpty() ? "'" : quoted.replace("''", "'"));
+                    pos++;
+                } else if (c == '[' || c == ']' || c == '{' || c == '}' || c == '#') {
+                    return null;
+                } else {
+                    literal.append(c);
+                    pos++;
+                }
+            }
+            if (literal.length() > 0) {
+                parts.add(new Part(LITERAL, null, 0, literal.toString()));
+            }
+            return new CompiledPattern(parts);
+        }
+
+        private static Part field(final char letter, final int count) {
+            switch (letter) {
+                case 'y':
+                    return year(ChronoField.YEAR_OF_ERA, count);
+                case 'u':
+                    return year(ChronoField.YEAR, count);
+                case 'M':
+                case 'L':
+                    return value(ChronoField.MONTH_OF_YEAR, count, 2);
+                case 'd':
+                    return value(ChronoField.DAY_OF_MONTH, count, 2);
+                case 'D':
+                    return value(ChronoField.DAY_OF_YEAR, count, 3);
+                case 'H':
+                    return value(ChronoField.HOUR_OF_DAY, count, 2);
+                case 'k':
+                    return value(ChronoField.CLOCK_HOUR_OF_DAY, count, 2);
+                case 'K':
+                    return value(ChronoField.HOUR_OF_AMPM, count, 2);
+                case 'h':
+                    return value(ChronoField.CLOCK_HOUR_OF_AMPM, count, 2);
+                case 'm':
+                    return value(ChronoField.MINUTE_OF_HOUR, count, 2);
+                case 's':
+                    return value(ChronoField.SECOND_OF_MINUTE, count, 2);
+                case 'S':
+                    return count <= 9 ? new Part(FRACTION, ChronoField.NANO_OF_SECOND, count, null) : null;
+                default:
+                    return null;
+            }
+        }
+
+        private static Part year(final ChronoField field, final int count) {
+            if (count == 2) {
+                return new Part(REDUCED_YEAR, field, 2, null);
+            }
+            return count <= 19 ? new Part(YEAR, field, count, null) : null;
+        }
+
+        private static Part value(final ChronoField field, final int count, final int maxCount) {
+            return count <= maxCount ? new Part(VALUE, field, count, null) : null;
+        }
+
+        /**
+         * @return the number of chars written, or -1 if the value must be formatted by the
+         *         standard formatter.
+         */
+        int print(final TemporalAccessor time, final char[] buffer) {
+            int pos = 0;
+            try {
+                for (int i = 0; i < operations.length; i++) {
+                    switch (operations[i]) {
+                        case LITERAL:
+                            final String literal = literals[i];
+                            literal.getChars(0, literal.length(), buffer, pos);
+                            pos += literal.length();
+                            break;
+                        case VALUE:
+                            pos = printPadded(time.get(fields[i]), widths[i], buffer, pos);
+                            break;
+                        case YEAR:
+                            final int year = time.get(fields[i]);
+                            if (year < 1 || year > 9999) {
+                                return -1;
+                            }
+                            pos = printPadded(year, widths[i], buffer, pos);
+                            break;
+                        case REDUCED_YEAR:
+                            final int reducedYear = time.get(fields[i]);
+                            if (reducedYear < 1 || reducedYear > 9999) {
+                                return -1;
+                            }
+                            pos = printPadded(reducedYear % 100, 2, buffer, pos);
+                            break;
+                        case FRACTION:
+                            int fraction = time.get(fields[i]);
+                            for (int digits = 9; digits > widths[i]; digits--) {
+                                fraction /= 10;
+                            }
+                            pos = printPadded(fraction, widths[i], buffer, pos);
+                            break;
+                        default:
+                            return -1;
+                    }
+                }
+            } catch (final DateTimeException e) {
+                // Unsupported field or invalid value: let the standard formatter report it
+                return -1;
+            }
+            return pos;
+        }
+
+        private static int printPadded(final int value, final int width, final char[] buffer, final int start) {
+            int digits = 1;
+            for (int v = value; v >= 10; v /= 10) {
+                digits++;
+            }
+            int pos = start;
+            for (int i = digits; i < width; i++) {
+                buffer[pos++] = '0';
+            }
+            int v = value;
+            for (int i = pos + digits - 1; i >= pos; i--) {
+                buffer[i] = (char) ('0' + v % 10);
+                v /= 10;
+            }
+            return pos + digits;
+        }
+
+    }
+
+
+    private static final class Part {
+
+        private final int operation;
+        private final ChronoField field;
+        private final int width;
+        private final String literal;
+
+        Part(final int operation, final ChronoField field, final int width, final String literal) {
+            super();
+            this.operation = operation;
+            this.field = field;
+            this.width = width;
+            this.literal = literal;
+        }
+
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2011-2014, The THYMELEAF team (http://www.thymeleaf.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import org.thymeleaf.util.Validate;
+
+/**
+ * <p>
+ * Optional, JVM-wide cache of formatted results, keyed by (temporal value, pattern, locale, zone).
+ * Pages rendering the same low-cardinality values over and over (e.g. the same date on every
+ * row of a report) then pay only a hash lookup for each repeated value.
+ * </p>
+ * <p>
+ * The cache is disabled by default. Only values of the immutable <tt>java.time</tt> classes are
+ * cached.
+ * </p>
+ *
+ * @author Jos&eacute; Miguel Samper
+ *
+ * @since 2.1.1
+ */
+public final class TemporalResultCache {
+
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    // Kinds of formatting whose results are cached
+    static final int FORMAT = 0;
+    static final int FORMAT_ISO = 1;
+
+    private static volatile BoundedCache<ResultKey, String> cache = null;
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    private TemporalResultCache() {
+        super();
+    }
+
+    public static void enable() {
+        enable(DEFAULT_MAX_SIZE);
+    }
+
+    public static synchronized void enable(final int maxSize) {
+        Validate.isTrue(maxSize > 0, "Maximum size must be greater than zero");
+        if (cache == null) {
+            cache = new BoundedCache<>(maxSize);
+        } else {
+            cache.setMaxSize(maxSize);
+        }
+    }
+
+    public static synchronized void disable() {
+        cache = null;
+        resetStatistics();
+    }
+
+    public static boolean isEnabled() {
+        return cache != null;
+    }
+
+    public static int getMaxSize() {
+        final BoundedCache<ResultKey, String> current = cache;
+        return current == null ? 0 : current.getMaxSize();
+    }
+
+    public static int size() {
+        final BoundedCache<ResultKey, String> current = cache;
+        return current == null ? 0 : current.size();
+    }
+
+    public static void clear() {
+        final BoundedCache<ResultKey, String> current = cache;
+        if (current != null) {
+            current.clear();
+        }
+        resetStatistics();
+    }
+
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the ratio of lookups that found a cached result, between 0 and 1.
+     */
+    public static double getHitRatio() {
+        final long hitCount = hits.sum();
+        final long total = hitCount + misses.sum();
+        return total == 0L ? 0.0 : (double) hitCount / total;
+    }
+
+    private static void resetStatistics() {
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * @return the key for the formatting result, or null if the cache is disabled or the value
+     *         cannot be cached.
+     */
+    static Object keyFor(final int kind, final Object target, final String pattern,
+            final Locale locale, final ZoneId zoneId) {
+        if (cache == null || !isCacheable(target)) {
+            return null;
+        }
+        return new ResultKey(kind, target, pattern, locale, zoneId);
+    }
+
+    static String get(final Object key) {
+        final BoundedCache<ResultKey, String> current = cache;
+        if (current == null) {
+            return null;
+        }
+        final String result = current.get((ResultKey) key);
+        final TemporalMetricsSink sink = TemporalObjects.getMetricsSink();
+        if (result != null) {
+            hits.increment();
+            if (sink != null) {
+                sink.resultCacheHit();
+            }
+        } else {
+            misses.increment();
+            if (sink != null) {
+                sink.resultCacheMiss();
+            }
+        }
+        return result;
+    }
+
+    static void put(final Object key, final String result) {
+        final BoundedCache<ResultKey, String> current = cache;
+        if (current != null) {
+            current.computeIfAbsent((ResultKey) key, k -> result);
+        }
+    }
+
+    /**
+     * @return whether the target is one of the immutable java.time value types, whose equal
+     *         instances always format equally.
+     */
+    static boolean isCacheable(final Object target) {
+        return target instanceof LocalDate || target instanceof LocalDateTime || target instanceof ZonedDateTime
+            || target instanceof Instant || target instanceof LocalTime || target instanceof OffsetTime
+            || target instanceof OffsetDateTime || target instanceof Year || target instanceof YearMonth;
+    }
+
+
+    private static final class ResultKey {
+
+        private final int kind;
+        private final Object target;
+        private final String pattern;
+        private final Locale locale;
+        private final ZoneId zoneId;
+        private final int hashCode;
+
+        ResultKey(final int kind, final Object target, final String pattern, final Locale locale, final ZoneId zoneId) {
+            super();
+            this.kind = kind;
+            this.target = target;
+            this.pattern = pattern;
+            this.locale = locale;
+            this.zoneId = zoneId;
+            int result = target.hashCode();
+            result = 31 * result + (pattern == null ? 0 : pattern.hashCode());
+            result = 31 * result + locale.hashCode();
+            result = 31 * result + (zoneId == null ? 0 : zoneId.hashCode());
+            this.hashCode = 31 * result + kind;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ResultKey)) {
+                return false;
+            }
+            final ResultKey other = (ResultKey) o;
+            return kind == other.kind && target.equals(other.target) && Objects.equals(pattern, other.pattern)
+                && locale.equals(other.locale) && Objects.equals(zoneId, other.zoneId);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
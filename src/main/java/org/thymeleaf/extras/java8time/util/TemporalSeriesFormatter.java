@@ -0,0 +1,235 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2011-2014, The THYMELEAF team (http://www.thymeleaf.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.time.LocalDate;
+import java.time.chrono.Chronology;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Formatter for series of temporal objects (usually sorted), which reuses the text already
+ * formatted for the previous element when the higher-order fields do not change.
+ * </p>
+ * <p>
+ * The pattern is split into segments depending only on the date (year, month, day...), segments
+ * depending on the date and the hour of day, and segments depending on anything else. While
+ * consecutive elements share the same date (or date and hour), the text of the corresponding
+ * segments is reused and only the remaining ones are formatted. As segments are formatted with
+ * the same rules as the whole pattern, the result is exactly the same.
+ * </p>
+ *
+ * @author Jos&eacute; Miguel Samper
+ *
+ * @since 2.1.1
+ */
+final class TemporalSeriesFormatter {
+
+    private static final int MAX_SIZE = 100;
+
+    private static final BoundedCache<PatternKey, TemporalSeriesFormatter> SERIES_FORMATTERS =
+        new BoundedCache<>(MAX_SIZE);
+
+    private static final int CONSTANT = 0;
+    private static final int DATE = 1;
+    private static final int HOUR = 2;
+    private static final int OTHER = 3;
+
+    private static final String DATE_LETTERS = "GuyDMLdQqYwWEecFg";
+    private static final String HOUR_LETTERS = "HkKha";
+
+    private final int[] levels;
+    private final TemporalPatternFormatter[] formatters;
+    private final boolean incremental;
+
+    private TemporalSeriesFormatter(final String pattern, final Locale locale) {
+        super();
+        final List<int[]> segments = split(pattern);
+        if (segments == null) {
+            this.levels = null;
+            this.formatters = null;
+            this.incremental = false;
+            return;
+        }
+        final List<Integer> levelList = new ArrayList<>();
+        final List<String> patternList = new ArrayList<>();
+        boolean cacheable = false;
+        for (final int[] segment : segments) {
+            final int level = segment[0];
+            final String text = pattern.substring(segment[1], segment[2]);
+            final int last = levelList.size() - 1;
+            if (last >= 0 && (level == CONSTANT || levelList.get(last) == level)) {
+                // Constants are merged into the previous segment, as are consecutive segments of the same level
+                patternList.set(last, patternList.get(last) + text);
+            } else if (last >= 0 && levelList.get(last) == CONSTANT) {
+                levelList.set(last, level);
+                patternList.set(last, patternList.get(last) + text);
+            } else {
+                levelList.add(level);
+                patternList.add(text);
+            }
+            cacheable |= level == DATE || level == HOUR;
+        }
+        this.levels = new int[levelList.size()];
+        for (int i = 0; i < this.levels.length; i++) {
+            this.levels[i] = levelList.get(i);
+        }
+        this.formatters = segmentFormatters(patternList, locale);
+        // Patterns whose segments cannot be compiled are left to the standard formatter, which reports the error
+        this.incremental = cacheable && this.formatters != null;
+    }
+
+    static TemporalSeriesFormatter forPattern(final String pattern, final Locale locale) {
+        return SERIES_FORMATTERS.computeIfAbsent(new PatternKey(pattern, locale, null),
+            key -> new TemporalSeriesFormatter(key.pattern, key.locale));
+    }
+
+    /*
+     * The formatters of the segments belong to this object instead of being taken from the shared
+     * formatter cache, where they would evict the patterns of the templates.
+     */
+    private static TemporalPatternFormatter[] segmentFormatters(final List<String> patterns, final Locale locale) {
+        final TemporalPatternFormatter[] formatters = new TemporalPatternFormatter[patterns.size()];
+        try {
+            for (int i = 0; i < formatters.length; i++) {
+                final String segment = patterns.get(i);
+                formatters[i] = new TemporalPatternFormatter(segment, DateTimeFormatter.ofPattern(segment, locale), true);
+            }
+        } catch (final IllegalArgumentException e) {
+            return null;
+        }
+        return formatters;
+    }
+
+    /**
+     * @return whether the pattern can be formatted incrementally.
+     */
+    boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Creates the object holding the state of the formatting of one series. Not thread-safe.
+     */
+    Run newRun() {
+        return new Run();
+    }
+
+    /*
+     * Splits the pattern into [level, start, end] segments, following the same rules as
+     * DateTimeFormatter.ofPattern. Returns null for patterns with optional sections or padding,
+     * whose output cannot be split.
+     */
+    private static List<int[]> split(final String pattern) {
+        final List<int[]> segments = new ArrayList<>();
+        final int length = pattern.length();
+        int pos = 0;
+        while (pos < length) {
+            final char c = pattern.charAt(pos);
+            final int start = pos;
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
+                if (c == 'p') {
+                    return null;
+                }
+                while (pos < length && pattern.charAt(pos) == c) {
+                    pos++;
+                }
+                final int level =
+                    DATE_LETTERS.indexOf(c) >= 0 ? DATE : (HOUR_LETTERS.indexOf(c) >= 0 ? HOUR : OTHER);
+                segments.add(new int[] {level, start, pos});
+            } else if (c == '\'') {
+                pos++;
+                for (; pos < length; pos++) {
+                    if (pattern.charAt(pos) == '\'') {
+                        if (pos + 1 < length && pattern.charAt(pos + 1) == '\'') {
+                            pos++;
+                        } else {
+                            break;
+                        }
+                    }
+                }
+                if (pos >= length) {
+                    return null;
+                }
+                pos++;
+                segments.add(new int[] {CONSTANT, start, pos});
+            } else if (c == '[' || c == ']' || c == '{' || c == '}' || c == '#') {
+                return null;
+            } else {
+                pos++;
+                segments.add(new int[] {CONSTANT, start, pos});
+            }
+        }
+        return segments;
+    }
+
+
+    final class Run {
+
+        private final TemporalPatternFormatter[] segmentFormatters = formatters;
+        private final String[] texts = new String[levels.length];
+        private Chronology lastChronology = null;
+        private LocalDate lastDate = null;
+        private int lastHour = -1;
+
+        private Run() {
+            super();
+        }
+
+        String format(final TemporalAccessor time) {
+            final Chronology chronology = time.query(TemporalQueries.chronology());
+            final LocalDate date = time.query(TemporalQueries.localDate());
+            final int hour = time.isSupported(ChronoField.HOUR_OF_DAY) ? time.get(ChronoField.HOUR_OF_DAY) : -1;
+            int validLevel = CONSTANT;
+            if (date != null && date.equals(lastDate) && Objects.equals(chronology, lastChronology)) {
+                validLevel = (hour == lastHour) ? HOUR : DATE;
+            }
+            int length = 0;
+            for (int i = 0; i < levels.length; i++) {
+                if (levels[i] > validLevel || texts[i] == null) {
+                    texts[i] = segmentFormatters[i].format(time);
+                }
+                length += texts[i].length();
+            }
+            lastChronology = chronology;
+            lastDate = date;
+            lastHour = hour;
+            if (texts.length == 1) {
+                return texts[0];
+            }
+            final char[] buffer = new char[length];
+            int pos = 0;
+            for (int i = 0; i < texts.length; i++) {
+                texts[i].getChars(0, texts[i].length(), buffer, pos);
+                pos += texts[i].length();
+            }
+            return new String(buffer);
+        }
+
+    }
+
+}
@@ -21,10 +21,11 @@
 
 import java.time.ZoneId;
 import java.time.temporal.Temporal;
+import java.util.HashSet;
 import java.util.Locale;
 import java.util.Set;
 import java.util.function.Function;
-import static java.util.stream.Collectors.toSet;
+import java.util.function.ToIntFunction;
 import org.thymeleaf.util.Validate;
 
 
@@ -46,80 +47,122 @@ public TemporalSetUtils(final Locale locale, final ZoneId defaultZoneId) {
         temporalFormattingUtils = new TemporalFormattingUtils(locale, defaultZoneId);
     }
 
+    /**
+     * Creates an instance sharing the formatting utils, which are immutable and thread-safe.
+     *
+     * @since 2.1.1
+     */
+    public TemporalSetUtils(final TemporalFormattingUtils temporalFormattingUtils) {
+        super();
+        Validate.notNull(temporalFormattingUtils, "Formatting utils cannot be null");
+        this.temporalFormattingUtils = temporalFormattingUtils;
+    }
+
     public Set<String> setFormat(final Set<? extends Temporal> target) {
-        return setFormat(target, temporalFormattingUtils::format);
+        return setString(target, temporalFormattingUtils::format);
     }
 
     public <T extends Temporal> Set<String> setFormat(final Set<T> target, final Locale locale) {
-        return setFormat(target, time -> temporalFormattingUtils.format(time, locale));
+        return setString(target, time -> temporalFormattingUtils.format(time, locale));
     }
 
     public <T extends Temporal> Set<String> setFormat(final Set<T> target, final String pattern) {
-        return setFormat(target, time -> temporalFormattingUtils.format(time, pattern));
+        return setString(target, time -> temporalFormattingUtils.format(time, pattern));
     }
 
     public <T extends Temporal> Set<String> setFormat(final Set<T> target, final String pattern, final Locale locale) {
-        return setFormat(target, time -> temporalFormattingUtils.format(time, pattern, locale));
+        return setString(target, time -> temporalFormattingUtils.format(time, pattern, locale));
     }
 
     public Set<Integer> setDay(final Set<? extends Temporal> target) {
-        return setFormat(target, temporalFormattingUtils::day);
+        return setInteger(target, temporalFormattingUtils::dayInt);
     }
 
     public Set<Integer> setMonth(final Set<? extends Temporal> target) {
-        return setFormat(target, temporalFormattingUtils::month);
+        return setInteger(target, temporalFormattingUtils::monthInt);
     }
 
     public Set<String> setMonthName(final Set<? extends Temporal> target) {
-        return setFormat(target, temporalFormattingUtils::monthName);
+        return setString(target, temporalFormattingUtils::monthName);
     }
 
     public Set<String> setMonthNameShort(final Set<? extends Temporal> target) {
-        return setFormat(target, temporalFormattingUtils::monthNameShort);
+        return setString(target, temporalFormattingUtils::monthNameShort);
     }
 
     public Set<Integer> setYear(final Set<? extends Temporal> target) {
-        return setFormat(target, temporalFormattingUtils::year);
+        return setInteger(target, temporalFormattingUtils::yearInt);
     }
     
     public Set<Integer> setDayOfWeek(final Set<? extends Temporal> target) {
-        return setFormat(target, temporalFormattingUtils::dayOfWeek);
+        return setInteger(target, temporalFormattingUtils::dayOfWeekInt);
     }
 
     public Set<String> setDayOfWeekName(final Set<? extends Temporal> target) {
-        return setFormat(target, temporalFormattingUtils::dayOfWeekName);
+        return setString(target, temporalFormattingUtils::dayOfWeekName);
     }
     
     public Set<String> setDayOfWeekNameShort(final Set<? extends Temporal> target) {
-        return setFormat(target, temporalFormattingUtils::dayOfWeekNameShort);
+        return setString(target, temporalFormattingUtils::dayOfWeekNameShort);
     }
     
     public Set<Integer> setHour(final Set<? extends Temporal> target) {
-        return setFormat(target, temporalFormattingUtils::hour);
+        return setInteger(target, temporalFormattingUtils::hourInt);
     }
     
     public Set<Integer> setMinute(final Set<? extends Temporal> target) {
-        return setFormat(target, temporalFormattingUtils::minute);
+        return setInteger(target, temporalFormattingUtils::minuteInt);
     }
     
     public Set<Integer> setSecond(final Set<? extends Temporal> target) {
-        return setFormat(target, temporalFormattingUtils::second);
+        return setInteger(target, temporalFormattingUtils::secondInt);
     }
     
     public Set<Integer> setNanosecond(final Set<? extends Temporal> target) {
-        return setFormat(target, temporalFormattingUtils::nanosecond);
+        return setInteger(target, temporalFormattingUtils::nanosecondInt);
     }
 
     public Set<String> setFormatISO(final Set<? extends Temporal> target) {
-        return setFormat(target, temporalFormattingUtils::formatISO);
+        return setString(target, temporalFormattingUtils::formatISO);
+    }
+
+    public Set<String> setFormatISOLocalDate(final Set<? extends Temporal> target) {
+        return setString(target, temporalFormattingUtils::formatISOLocalDate);
+    }
+
+    public Set<String> setFormatISOLocalDateTime(final Set<? extends Temporal> target) {
+        return setString(target, temporalFormattingUtils::formatISOLocalDateTime);
+    }
+
+    public Set<String> setFormatISOInstant(final Set<? extends Temporal> target) {
+        return setString(target, temporalFormattingUtils::formatISOInstant);
+    }
+
+    public Set<String> setFormatRFC1123(final Set<? extends Temporal> target) {
+        return setString(target, temporalFormattingUtils::formatRFC1123);
+    }
+
+    private Set<String> setString(final Set<? extends Temporal> target, final Function<Object, String> formatFunction) {
+        Validate.notNull(target, "Target cannot be null");
+        final Set<String> result = new HashSet<>(capacity(target.size()));
+        for (final Temporal time : target) {
+            result.add(formatFunction.apply(time));
+        }
+        return result;
     }
 
-    private <R extends Object, T extends Temporal> Set<R> setFormat(
-            final Set<T> target, final Function<T, R> mapFunction) {
+    private Set<Integer> setInteger(final Set<? extends Temporal> target, final ToIntFunction<Object> mapFunction) {
         Validate.notNull(target, "Target cannot be null");
-        return target.stream()
-            .map(time -> mapFunction.apply(time))
-            .collect(toSet());
+        final Set<Integer> result = new HashSet<>(capacity(target.size()));
+        for (final Temporal time : target) {
+            result.add(Integer.valueOf(mapFunction.applyAsInt(time)));
+        }
+        return result;
+    }
+
+    private static int capacity(final int size) {
+        // Initial capacity of a HashSet that holds all the elements without being resized
+        return (int) (size / 0.75f) + 1;
     }
 
 }
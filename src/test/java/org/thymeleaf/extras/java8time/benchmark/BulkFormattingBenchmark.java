@@ -0,0 +1,116 @@
+/*
+ * Copyright 2014 The THYMELEAF team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.thymeleaf.extras.java8time.benchmark;
+
+import java.lang.reflect.Array;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.thymeleaf.extras.java8time.util.TemporalArrayUtils;
+import org.thymeleaf.extras.java8time.util.TemporalFormattingUtils;
+import org.thymeleaf.extras.java8time.util.TemporalListUtils;
+import org.thymeleaf.extras.java8time.util.TemporalSetUtils;
+
+/**
+ * <p>
+ * Compares the bulk utilities with the stream and reflection based kernels they used to be
+ * built on. This is not a unit test: run its main method, with the test classpath, on an
+ * otherwise idle machine.
+ * </p>
+ */
+public class BulkFormattingBenchmark {
+
+    private static final int SIZE = 10000;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int ROUNDS = 200;
+
+    private static final TemporalFormattingUtils FORMATTING_UTILS = new TemporalFormattingUtils(Locale.ENGLISH, ZoneOffset.UTC);
+    private static final TemporalArrayUtils ARRAY_UTILS = new TemporalArrayUtils(FORMATTING_UTILS);
+    private static final TemporalListUtils LIST_UTILS = new TemporalListUtils(FORMATTING_UTILS);
+    private static final TemporalSetUtils SET_UTILS = new TemporalSetUtils(FORMATTING_UTILS);
+
+    private static volatile Object sink;
+
+    public static void main(String[] args) {
+        List<Temporal> list = new ArrayList<>();
+        LocalDateTime time = LocalDateTime.of(2015, 1, 1, 0, 0);
+        for (int i = 0; i < SIZE; i++) {
+            list.add(time);
+            time = time.plusMinutes(97);
+        }
+        Object[] array = list.toArray();
+        Set<Temporal> set = new HashSet<>(list);
+
+        run("arrayDay", () -> streamArray(array, FORMATTING_UTILS::day, Integer.class), () -> ARRAY_UTILS.arrayDay(array));
+        run("arrayMonthName", () -> streamArray(array, FORMATTING_UTILS::monthName, String.class),
+            () -> ARRAY_UTILS.arrayMonthName(array));
+        run("arrayFormatISO", () -> streamArray(array, FORMATTING_UTILS::formatISO, String.class),
+            () -> ARRAY_UTILS.arrayFormatISO(array));
+        run("listHour", () -> streamList(list, FORMATTING_UTILS::hour), () -> LIST_UTILS.listHour(list));
+        run("listDayOfWeekName", () -> streamList(list, FORMATTING_UTILS::dayOfWeekName),
+            () -> LIST_UTILS.listDayOfWeekName(list));
+        run("setMonth", () -> streamSet(set, FORMATTING_UTILS::month), () -> SET_UTILS.setMonth(set));
+    }
+
+    private static void run(String name, Supplier<Object> before, Supplier<Object> after) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink = before.get();
+            sink = after.get();
+        }
+        System.out.printf("%-20s before: %8.1f ns/element   after: %8.1f ns/element%n", name, measure(before), measure(after));
+    }
+
+    private static double measure(Supplier<Object> operation) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink = operation.get();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return (double) best / SIZE;
+    }
+
+    // The kernels the bulk utilities were built on before being rewritten as presized loops
+
+    @SuppressWarnings("unchecked")
+    private static <R> R[] streamArray(Object[] target, Function<Object, R> mapFunction, Class<R> returnType) {
+        return Stream.of(target)
+            .map(time -> mapFunction.apply(time))
+            .toArray(length -> (R[]) Array.newInstance(returnType, length));
+    }
+
+    private static <R> List<R> streamList(List<Temporal> target, Function<Object, R> mapFunction) {
+        return target.stream()
+            .map(time -> mapFunction.apply(time))
+            .collect(Collectors.toList());
+    }
+
+    private static <R> Set<R> streamSet(Set<Temporal> target, Function<Object, R> mapFunction) {
+        return target.stream()
+            .map(time -> mapFunction.apply(time))
+            .collect(Collectors.toSet());
+    }
+
+}
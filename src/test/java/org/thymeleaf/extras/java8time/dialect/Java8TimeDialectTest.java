@@ -0,0 +1,256 @@
+/*
+ * Copyright 2014 The THYMELEAF team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.thymeleaf.extras.java8time.dialect;
+
+import java.lang.reflect.Field;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.context.ProcessingContext;
+import org.thymeleaf.extras.java8time.expression.Temporals;
+import org.thymeleaf.extras.java8time.util.TemporalMetricsSink;
+import org.thymeleaf.extras.java8time.util.TemporalObjects;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import static org.junit.Assert.*;
+
+/**
+ * Tests regarding the expression objects of the dialect.
+ */
+public class Java8TimeDialectTest {
+
+    private final Java8TimeDialect dialect = new Java8TimeDialect();
+
+    @Test
+    public void testTemporalsArePooledPerLocale() {
+        Object english = temporals(Locale.ENGLISH);
+        assertNotNull(english);
+        assertSame(english, temporals(Locale.ENGLISH));
+        assertNotSame(english, temporals(Locale.GERMAN));
+        assertSame(temporals(Locale.GERMAN), temporals(Locale.GERMAN));
+    }
+
+    @Test
+    public void testPooledTemporalsFollowTheDefaultZone() {
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+            Temporals tokyo = (Temporals) temporals(Locale.ENGLISH);
+            assertEquals("2016-01-01T05:00:00.000+0900", tokyo.formatISO(LocalDateTime.of(2016, 1, 1, 5, 0)));
+            TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+            Temporals newYork = (Temporals) temporals(Locale.ENGLISH);
+            assertNotSame(tokyo, newYork);
+            assertSame(newYork, temporals(Locale.ENGLISH));
+            assertEquals("2016-01-01T05:00:00.000-0500", newYork.formatISO(LocalDateTime.of(2016, 1, 1, 5, 0)));
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+    @Test
+    public void testConfiguredZoneAndClock() {
+        ZoneId zone = ZoneId.of("Asia/Tokyo");
+        Clock clock = Clock.fixed(Instant.parse("2015-12-31T20:00:00Z"), zone);
+        Java8TimeDialect configuredDialect = new Java8TimeDialect(
+            Java8TimeDialectConfiguration.builder().defaultZoneId(zone).clock(clock).build());
+        Temporals temporals = (Temporals) configuredDialect.getAdditionalExpressionObjects(
+            new ProcessingContext(new Context(Locale.ENGLISH))).get("temporals");
+        assertEquals(LocalDateTime.of(2016, 1, 1, 5, 0), temporals.createNow());
+        assertEquals("2016-01-01T05:00:00.000+0900", temporals.formatISO(LocalDateTime.of(2016, 1, 1, 5, 0)));
+    }
+
+    @Test
+    public void testSharedSettings() {
+        int formatterCacheMaxSize = TemporalObjects.getFormatterCacheMaxSize();
+        AtomicInteger createdFormatters = new AtomicInteger();
+        try {
+            new Java8TimeDialect(Java8TimeDialectConfiguration.builder()
+                .formatterCacheMaxSize(42)
+                .metricsSink(new TemporalMetricsSink() {
+                    @Override
+                    public void formatterCreated(String pattern, Locale locale) {
+                        createdFormatters.incrementAndGet();
+                    }
+                })
+                .build());
+            assertEquals(42, TemporalObjects.getFormatterCacheMaxSize());
+            TemporalObjects.formatterFor("'metrics' yyyy", Locale.ENGLISH, null);
+            TemporalObjects.formatterFor("'metrics' yyyy", Locale.ENGLISH, null);
+            assertEquals(1, createdFormatters.get());
+        } finally {
+            TemporalObjects.setFormatterCacheMaxSize(formatterCacheMaxSize);
+            TemporalObjects.setMetricsSink(null);
+        }
+    }
+
+    @Test
+    public void testTemplatesNotUsingTemporalsDoNotBuildTheirUtils() throws Exception {
+        TemplateEngine templateEngine = templateEngine();
+        templateEngine.addDialect(dialect);
+        Context context = new Context(Locale.ENGLISH);
+        context.setVariable("pageDates", readCountingDates(100));
+        context.setVariable("lazyDates", readCountingDates(100));
+        Object temporals = temporals(Locale.ENGLISH);
+        Field utils = Temporals.class.getDeclaredField("utils");
+        utils.setAccessible(true);
+
+        templateEngine.process("test1", context);
+        assertSame(temporals, temporals(Locale.ENGLISH));
+        assertNull(utils.get(temporals));
+
+        templateEngine.process("temporalsPage", context);
+        assertNotNull(utils.get(temporals));
+    }
+
+    @Test
+    public void testRenderingAPageOnlyFormatsThePage() {
+        List<ReadCountingDate> pageDates = readCountingDates(1000);
+        List<ReadCountingDate> lazyDates = readCountingDates(1000);
+        TemplateEngine templateEngine = templateEngine();
+        templateEngine.addDialect(new Java8TimeDialect());
+        Context context = new Context(Locale.ENGLISH);
+        context.setVariable("pageDates", pageDates);
+        context.setVariable("lazyDates", lazyDates);
+        String result = templateEngine.process("temporalsPage", context);
+        assertEquals(20, result.split("<li>", -1).length - 1);
+        assertEquals(2, result.split("<li>21/01/2015</li>", -1).length - 1);
+        assertEquals(2, result.split("<li>30/01/2015</li>", -1).length - 1);
+        assertEquals(10, readCount(pageDates));
+        assertEquals(10, readCount(lazyDates));
+    }
+
+    @Test
+    public void testIteratingFormattedSources() {
+        List<LocalDate> dates = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            dates.add(LocalDate.of(2015, 1, 1).plusDays(i));
+        }
+        AtomicInteger reads = new AtomicInteger();
+        TemplateEngine templateEngine = templateEngine();
+        templateEngine.addDialect(new Java8TimeDialect());
+        Context context = new Context(Locale.ENGLISH);
+        context.setVariable("dates", (Iterable<LocalDate>) () -> readCountingIterator(dates, reads));
+        context.setVariable("datesIterator", readCountingIterator(dates, reads));
+        String result = templateEngine.process("temporalsIteration", context);
+        assertEquals(2000, result.split("<li>", -1).length - 1);
+        assertEquals(2, result.split("<li>26/09/2017</li>", -1).length - 1);
+        // th:each copies the iterated objects into a list in Thymeleaf 2.1, so all the elements are
+        // formatted before rendering, but the single-use iterator is still read only once
+        assertEquals(2000, reads.get());
+    }
+
+    private static TemplateEngine templateEngine() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setSuffix(".html");
+        TemplateEngine templateEngine = new TemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        return templateEngine;
+    }
+
+    private Object temporals(Locale locale) {
+        return dialect.getAdditionalExpressionObjects(new ProcessingContext(new Context(locale))).get("temporals");
+    }
+
+    private static List<ReadCountingDate> readCountingDates(int size) {
+        List<ReadCountingDate> dates = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            dates.add(new ReadCountingDate(LocalDate.of(2015, 1, 1).plusDays(i)));
+        }
+        return dates;
+    }
+
+    private static Iterator<LocalDate> readCountingIterator(List<LocalDate> dates, AtomicInteger reads) {
+        Iterator<LocalDate> iterator = dates.iterator();
+        return new Iterator<LocalDate>() {
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public LocalDate next() {
+                reads.incrementAndGet();
+                return iterator.next();
+            }
+
+        };
+    }
+
+    private static long readCount(List<ReadCountingDate> dates) {
+        return dates.stream().filter(date -> date.read).count();
+    }
+
+
+    /*
+     * Date remembering whether any of its fields has been read, as formatting it does.
+     */
+    private static final class ReadCountingDate implements Temporal {
+
+        private final LocalDate date;
+        private volatile boolean read = false;
+
+        ReadCountingDate(LocalDate date) {
+            this.date = date;
+        }
+
+        @Override
+        public boolean isSupported(TemporalField field) {
+            return date.isSupported(field);
+        }
+
+        @Override
+        public long getLong(TemporalField field) {
+            read = true;
+            return date.getLong(field);
+        }
+
+        @Override
+        public boolean isSupported(TemporalUnit unit) {
+            return false;
+        }
+
+        @Override
+        public Temporal with(TemporalField field, long newValue) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Temporal plus(long amountToAdd, TemporalUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long until(Temporal endExclusive, TemporalUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
@@ -95,6 +95,13 @@ public void testArrayYear() {
         assertArrayEquals(expected, temporals.arrayYear(array));
     }
 
+    @Test
+    public void testArrayYearInt() {
+        Temporal[] array = {LocalDate.of(2014, 1, 1), LocalDate.of(2015, 12, 31)};
+        int[] expected = {2014, 2015};
+        assertArrayEquals(expected, temporals.arrayYearInt(array));
+    }
+
     @Test
     public void testArrayDayOfWeek() {
         Temporal[] array = {LocalDate.of(2014, 1, 1), LocalDate.of(2015, 12, 31)};
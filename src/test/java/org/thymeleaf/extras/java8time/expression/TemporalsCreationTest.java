@@ -15,12 +15,15 @@
  */
 package org.thymeleaf.extras.java8time.expression;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.Temporal;
 import java.util.Locale;
+import java.util.TimeZone;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -100,6 +103,26 @@ public void testCreateNowForTimeZone() {
         assertEquals(ZoneOffset.UTC, time.getZone());
     }
 
+    @Test
+    public void testCreateWithArgumentsOfOtherTypes() {
+        LocalDateTime expected = LocalDateTime.of(2015, 12, 31, 23, 59, 30, 5);
+        assertEquals(expected, temporals.create(2015L, (short) 12, (byte) 31, "23", "59", "30", "000000005"));
+        assertEquals(expected, temporals.create(new BigDecimal("2015"), 12.0, " 31 ", 23, 59, 30, 5));
+        assertEquals(LocalDate.of(2015, 12, 31), temporals.create("2015", "12", "31"));
+    }
+
+    @Test
+    public void testCreateNowForTimeZoneGivenAsString() {
+        ZonedDateTime time = (ZonedDateTime) temporals.createNowForTimeZone("Europe/Madrid");
+        assertEquals(ZoneId.of("Europe/Madrid"), time.getZone());
+        // Resolved once and then shared
+        assertSame(time.getZone(), ((ZonedDateTime) temporals.createNowForTimeZone("Europe/Madrid")).getZone());
+        time = (ZonedDateTime) temporals.createNowForTimeZone(TimeZone.getTimeZone("America/New_York"));
+        assertEquals(ZoneId.of("America/New_York"), time.getZone());
+        time = (ZonedDateTime) temporals.createNowForTimeZone(TimeZone.getTimeZone("EST"));
+        assertEquals(TimeZone.getTimeZone("EST").toZoneId(), time.getZone());
+    }
+
     @Test
     public void testCreateToday() {
         Temporal temporal = temporals.createToday();
@@ -171,4 +194,16 @@ public void testCreateDateTimeWithPattern() {
         assertEquals(   0, time.getNano());
     }
 
+    @Test
+    public void testCreateDateWithPatternAndLocale() {
+        assertEquals(LocalDate.of(2015, 12, 31), temporals.createDate("31 Dezember 2015", "d MMMM yyyy", Locale.GERMAN));
+        assertEquals(LocalDate.of(2015, 3, 1), temporals.createDate("1 mars 2015", "d MMMM yyyy", Locale.FRENCH));
+    }
+
+    @Test
+    public void testCreateDateTimeWithPatternAndLocale() {
+        assertEquals(LocalDateTime.of(2015, 12, 31, 23, 59),
+            temporals.createDateTime("Donnerstag, 31 Dezember 2015 23:59", "EEEE, d MMMM yyyy HH:mm", Locale.GERMAN));
+    }
+
 }
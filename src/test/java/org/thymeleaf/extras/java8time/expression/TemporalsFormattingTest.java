@@ -15,6 +15,7 @@
  */
 package org.thymeleaf.extras.java8time.expression;
 
+import java.io.StringWriter;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
@@ -59,6 +60,27 @@ public void testFormatWithPatternAndLocale() {
         assertEquals(expectd, temporals.format(time, pattern, Locale.GERMAN));
     }
 
+    @Test
+    public void testFormatWithPatternAndLocaleString() {
+        Temporal time = LocalDateTime.of(2015, 12, 31, 23, 59);
+        String pattern = "EEEE, d MMMM, yyyy";
+        assertEquals("Donnerstag, 31 Dezember, 2015", temporals.format(time, pattern, "de"));
+        assertEquals("jueves, 31 diciembre, 2015", temporals.format(time, pattern, "es-ES"));
+        assertEquals("jueves, 31 diciembre, 2015", temporals.format(time, pattern, "es_ES"));
+    }
+
+    @Test
+    public void testFormatTo() throws Exception {
+        Temporal time = LocalDateTime.of(2015, 12, 31, 23, 59);
+        StringWriter output = new StringWriter();
+        temporals.formatTo(time, "yyyy-MM-dd HH:mm:ss", output);
+        output.write(' ');
+        temporals.formatTo(time, "EEEE", Locale.GERMAN, output);
+        output.write(' ');
+        temporals.formatISOTo(time, output);
+        assertEquals("2015-12-31 23:59:00 Donnerstag 2015-12-31T23:59:00.000+0000", output.toString());
+    }
+
     @Test
     public void testDay() {
         Temporal time = LocalDate.of(2015, 12, 31);
@@ -83,12 +105,30 @@ public void testMonthNameShort() {
         assertEquals("Dec", temporals.monthNameShort(time));
     }
 
+    @Test
+    public void testNamesAgainstPatterns() {
+        Temporals german = new Temporals(Locale.GERMAN, ZoneOffset.UTC);
+        for (int day = 1; day <= 366; day += 5) {
+            LocalDate date = LocalDate.ofYearDay(2016, day);
+            assertEquals(german.format(date, "MMMM"), german.monthName(date));
+            assertEquals(german.format(date, "MMM"), german.monthNameShort(date));
+            assertEquals(german.format(date, "EEEE"), german.dayOfWeekName(date));
+            assertEquals(german.format(date, "EEE"), german.dayOfWeekNameShort(date));
+        }
+    }
+
     @Test
     public void testYear() {
         Temporal time = LocalDate.of(2015, 12, 31);
         assertEquals(2015, temporals.year(time).intValue());
     }
 
+    @Test
+    public void testYearInt() {
+        Temporal time = LocalDate.of(2015, 12, 31);
+        assertEquals(2015, temporals.yearInt(time));
+    }
+
     @Test
     public void testDayOfWeek() {
         Temporal time = LocalDate.of(2015, 12, 31);
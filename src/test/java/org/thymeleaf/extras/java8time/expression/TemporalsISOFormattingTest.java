@@ -0,0 +1,129 @@
+/*
+ * Copyright 2014 The THYMELEAF team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.thymeleaf.extras.java8time.expression;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.Test;
+import org.thymeleaf.extras.java8time.util.TemporalObjects;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the fast ISO-8601 and RFC-1123 formatting against the standard JDK formatters.
+ */
+public class TemporalsISOFormattingTest {
+
+    private static final DateTimeFormatter ISO8601_DATE_TIME_FORMATTER =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZZZ", Locale.ENGLISH);
+
+    private final Temporals temporals = new Temporals(Locale.ENGLISH, ZoneOffset.UTC);
+
+    @Test
+    public void testFormatISOLocalDate() {
+        assertEquals("2015-12-31", temporals.formatISOLocalDate(LocalDate.of(2015, 12, 31)));
+        assertEquals("2015-12-31", temporals.formatISOLocalDate(LocalDateTime.of(2015, 12, 31, 23, 59)));
+    }
+
+    @Test
+    public void testFormatISOLocalDateTime() {
+        assertEquals("2015-12-31T23:59:00", temporals.formatISOLocalDateTime(LocalDateTime.of(2015, 12, 31, 23, 59)));
+        assertEquals("2015-12-31T23:59:45.5",
+            temporals.formatISOLocalDateTime(LocalDateTime.of(2015, 12, 31, 23, 59, 45, 500000000)));
+    }
+
+    @Test
+    public void testFormatISOInstant() {
+        assertEquals("2015-12-31T23:59:45.001Z",
+            temporals.formatISOInstant(Instant.parse("2015-12-31T23:59:45.001Z")));
+        assertEquals("2015-12-31T22:59:45Z",
+            temporals.formatISOInstant(ZonedDateTime.of(2015, 12, 31, 23, 59, 45, 0, ZoneOffset.ofHours(1))));
+    }
+
+    @Test
+    public void testFormatRFC1123() {
+        assertEquals("Thu, 31 Dec 2015 23:59:45 GMT",
+            temporals.formatRFC1123(ZonedDateTime.of(2015, 12, 31, 23, 59, 45, 0, ZoneOffset.UTC)));
+        assertEquals("Fri, 1 Jan 2016 01:02:03 -0530",
+            temporals.formatRFC1123(OffsetDateTime.of(2016, 1, 1, 1, 2, 3, 0, ZoneOffset.ofHoursMinutes(-5, -30))));
+    }
+
+    @Test
+    public void testAgainstStandardFormatters() {
+        for (ZonedDateTime time : samples()) {
+            LocalDateTime localTime = time.toLocalDateTime();
+            assertEquals(ISO8601_DATE_TIME_FORMATTER.format(time), temporals.formatISO(time));
+            assertEquals(DateTimeFormatter.ISO_LOCAL_DATE.format(localTime), temporals.formatISOLocalDate(localTime));
+            assertEquals(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(localTime),
+                temporals.formatISOLocalDateTime(localTime));
+            assertEquals(DateTimeFormatter.ISO_INSTANT.format(time), temporals.formatISOInstant(time.toInstant()));
+            if (time.getYear() >= 0 && time.getYear() <= 9999) {
+                assertEquals(DateTimeFormatter.RFC_1123_DATE_TIME.format(time), temporals.formatRFC1123(time));
+            }
+        }
+    }
+
+    @Test
+    public void testFastPathsDisabled() {
+        List<String> fast = new ArrayList<>();
+        for (ZonedDateTime time : samples()) {
+            fast.add(temporals.formatISO(time) + temporals.formatISOInstant(time.toInstant()));
+        }
+        TemporalObjects.setFastPathsEnabled(false);
+        try {
+            int i = 0;
+            for (ZonedDateTime time : samples()) {
+                assertEquals(fast.get(i++), temporals.formatISO(time) + temporals.formatISOInstant(time.toInstant()));
+            }
+        } finally {
+            TemporalObjects.setFastPathsEnabled(true);
+        }
+    }
+
+    private static List<ZonedDateTime> samples() {
+        List<ZonedDateTime> samples = new ArrayList<>();
+        ZoneId[] zones = {
+            ZoneOffset.UTC, ZoneOffset.MAX, ZoneOffset.MIN, ZoneOffset.ofHoursMinutes(-5, -30),
+            ZoneOffset.ofTotalSeconds(30), ZoneOffset.ofTotalSeconds(-3630), ZoneId.of("Europe/Madrid")};
+        int[] years = {-1, 0, 1, 999, 1970, 2015, 9999, 10000};
+        int[] nanos = {0, 1, 1000, 1000000, 500000000, 123456789, 999999999};
+        for (ZoneId zone : zones) {
+            for (int year : years) {
+                for (int nano : nanos) {
+                    samples.add(ZonedDateTime.of(year, 12, 31, 23, 59, 0, nano, zone));
+                    samples.add(ZonedDateTime.of(year, 1, 1, 0, 0, 5, nano, zone));
+                }
+            }
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            long epochSecond = (long) (random.nextDouble() * 4102444800L) - 2208988800L;
+            Instant instant = Instant.ofEpochSecond(epochSecond, random.nextInt(1000000000));
+            samples.add(ZonedDateTime.ofInstant(instant, zones[random.nextInt(zones.length)]));
+        }
+        return samples;
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2014 The THYMELEAF team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.thymeleaf.extras.java8time.expression;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import static java.util.Arrays.asList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests regarding formatting of iterables, iterators and streams of temporal objects.
+ */
+public class TemporalsIterableTest {
+
+    private final Temporals temporals = new Temporals(Locale.ENGLISH, ZoneOffset.UTC);
+
+    private final List<Temporal> list = asList(LocalDate.of(2015, 1, 1), LocalDate.of(2015, 12, 31));
+
+    @Test
+    public void testIterableFormat() {
+        Iterable<String> result = temporals.iterableFormat(list, "yyyy-MM-dd");
+        assertEquals(asList("2015-01-01", "2015-12-31"), toList(result));
+        // Iterables can be iterated again
+        assertEquals(asList("2015-01-01", "2015-12-31"), toList(result));
+        assertEquals(temporals.listFormat(list), toList(temporals.iterableFormat(list)));
+        assertEquals(temporals.listFormat(list, Locale.GERMAN), toList(temporals.iterableFormat(list, Locale.GERMAN)));
+    }
+
+    @Test
+    public void testIteratorFormat() {
+        Iterable<String> result = temporals.iteratorFormat(list.iterator(), "EEEE, d MMMM, yyyy", Locale.GERMAN);
+        assertEquals(asList("Donnerstag, 1 Januar, 2015", "Donnerstag, 31 Dezember, 2015"), toList(result));
+    }
+
+    @Test
+    public void testStreamFormat() {
+        Iterable<String> result = temporals.streamFormat(list.stream(), "yyyy-MM-dd");
+        assertEquals(asList("2015-01-01", "2015-12-31"), toList(result));
+    }
+
+    @Test
+    public void testElementsAreFormattedWhileIterated() {
+        Iterator<String> result = temporals.streamFormat(
+            Stream.iterate(LocalDate.of(2015, 1, 1), date -> date.plusDays(1)), "dd/MM/yyyy").iterator();
+        assertEquals("01/01/2015", result.next());
+        assertEquals("02/01/2015", result.next());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testIteratorsCanOnlyBeIteratedOnce() {
+        Iterable<String> result = temporals.iteratorFormat(list.iterator());
+        result.iterator();
+        result.iterator();
+    }
+
+    private static List<String> toList(Iterable<String> iterable) {
+        List<String> result = new ArrayList<>();
+        for (String element : iterable) {
+            result.add(element);
+        }
+        return result;
+    }
+
+}
@@ -19,7 +19,9 @@
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.temporal.Temporal;
+import java.util.ArrayList;
 import static java.util.Arrays.asList;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import org.junit.Test;
@@ -54,6 +56,43 @@ public void testListFormatWithPattern() {
         assertEquals(expected, temporals.listFormat(list, pattern));
     }
 
+    @Test
+    public void testListFormatTo() {
+        List<Temporal> list = asList(LocalDate.of(2015, 1, 1), LocalDate.of(2015, 12, 31));
+        StringBuilder output = new StringBuilder("[");
+        temporals.listFormatTo(list, "yyyy-MM-dd", ", ", output);
+        assertEquals("[2015-01-01, 2015-12-31", output.toString());
+    }
+
+    @Test
+    public void testListFormatLazy() {
+        List<Temporal> list = new LinkedList<>(asList(LocalDate.of(2015, 1, 1), LocalDate.of(2015, 12, 31)));
+        assertEquals(temporals.listFormat(list), temporals.listFormatLazy(list));
+        assertEquals(temporals.listFormat(list, Locale.GERMAN), temporals.listFormatLazy(list, Locale.GERMAN));
+        assertEquals(temporals.listFormat(list, "yyyy-MM-dd"), temporals.listFormatLazy(list, "yyyy-MM-dd"));
+        assertEquals(temporals.listFormat(list, "EEEE, d MMMM, yyyy", Locale.GERMAN),
+            temporals.listFormatLazy(list, "EEEE, d MMMM, yyyy", Locale.GERMAN));
+    }
+
+    @Test
+    public void testListFormatPage() {
+        List<Temporal> list = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(LocalDate.of(2015, 1, i + 1));
+        }
+        assertEquals(asList("03/01/2015", "04/01/2015"), temporals.listFormat(list, "dd/MM/yyyy", 2, 2));
+        assertEquals(temporals.listFormat(list.subList(8, 10)), temporals.listFormat(list, 8, 5));
+        assertEquals(asList("Samstag, 10 Januar, 2015"),
+            temporals.listFormat(list, "EEEE, d MMMM, yyyy", Locale.GERMAN, 9, 1));
+        assertTrue(temporals.listFormat(list, "dd/MM/yyyy", 20, 5).isEmpty());
+        assertTrue(temporals.listFormat(list, "dd/MM/yyyy", 0, 0).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testListFormatPageWithNegativeOffset() {
+        temporals.listFormat(asList(LocalDate.of(2015, 1, 1)), "dd/MM/yyyy", -1, 5);
+    }
+
     @Test
     public void testListFormatWithPatternAndLocale() {
         List<Temporal> list = asList(LocalDate.of(2015, 1, 1), LocalDate.of(2015, 12, 31));
@@ -146,6 +185,13 @@ public void testListNanosecond() {
         assertEquals(expected, temporals.listNanosecond(list));
     }
 
+    @Test
+    public void testListNanosecondInt() {
+        List<Temporal> list = asList(LocalDateTime.of(2015, 1, 1, 1, 1, 1, 1000000), LocalDateTime.of(2015, 12, 31, 23, 59, 10, 9));
+        int[] expected = {1000000, 9};
+        assertArrayEquals(expected, temporals.listNanosecondInt(list));
+    }
+
     @Test
     public void testListFormatISO() {
         List<Temporal> list = asList(LocalDateTime.of(2015, 1, 1, 1, 1, 1, 1), LocalDateTime.of(2015, 12, 31, 23, 59, 10, 9));
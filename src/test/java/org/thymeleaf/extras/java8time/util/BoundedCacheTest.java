@@ -0,0 +1,91 @@
+/*
+ * Copyright 2014 The THYMELEAF team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Queue;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests regarding the shared caches.
+ */
+public class BoundedCacheTest {
+
+    @Test
+    public void testComputeIfAbsent() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10);
+        assertEquals("A", cache.computeIfAbsent("a", String::toUpperCase));
+        assertEquals("A", cache.computeIfAbsent("a", key -> "other"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testEviction() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(3);
+        for (int i = 0; i < 10; i++) {
+            cache.computeIfAbsent(i, key -> key * 2);
+        }
+        assertEquals(3, cache.size());
+        assertNull(cache.get(0));
+        assertEquals(18, cache.get(9).intValue());
+        cache.setMaxSize(1);
+        assertEquals(1, cache.size());
+        assertEquals(18, cache.get(9).intValue());
+    }
+
+    @Test
+    public void testEvictionOfEntriesUnknownToTheQueue() throws Exception {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(3);
+        for (int i = 0; i < 3; i++) {
+            cache.computeIfAbsent(i, key -> key * 2);
+        }
+        // What a clear() racing with an insertion can leave behind: entries missing from the queue
+        Field insertionOrder = BoundedCache.class.getDeclaredField("insertionOrder");
+        insertionOrder.setAccessible(true);
+        ((Queue<?>) insertionOrder.get(cache)).clear();
+        for (int i = 3; i < 10; i++) {
+            cache.computeIfAbsent(i, key -> key * 2);
+            assertTrue(cache.size() <= 3);
+        }
+    }
+
+    @Test
+    public void testFormatterCache() {
+        DateTimeFormatter formatter = TemporalObjects.formatterFor("dd.MM.yyyy HH:mm", Locale.ENGLISH, null);
+        assertSame(formatter, TemporalObjects.formatterFor("dd.MM.yyyy HH:mm", Locale.ENGLISH, null));
+        assertNotSame(formatter, TemporalObjects.formatterFor("dd.MM.yyyy HH:mm", Locale.GERMAN, null));
+        assertNotSame(formatter, TemporalObjects.formatterFor("dd.MM.yyyy HH:mm", Locale.ENGLISH, ZoneOffset.UTC));
+        assertEquals(ZoneOffset.UTC,
+            TemporalObjects.formatterFor("dd.MM.yyyy HH:mm", Locale.ENGLISH, ZoneOffset.UTC).getZone());
+    }
+
+    @Test
+    public void testDefaultFormatterTable() {
+        LocalDate date = LocalDate.of(2015, 12, 31);
+        DateTimeFormatter formatter = TemporalObjects.formatterFor(date, Locale.ENGLISH);
+        assertSame(formatter, TemporalObjects.formatterFor(LocalDate.of(2016, 1, 1), Locale.ENGLISH));
+        assertSame(TemporalObjects.formatterFor(Year.of(2015), Locale.GERMAN),
+            TemporalObjects.formatterFor(Year.of(2016), Locale.GERMAN));
+        assertEquals("31. Dezember 2015", TemporalObjects.formatterFor(date, Locale.GERMAN).format(date));
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2014 The THYMELEAF team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Locale;
+import org.junit.Test;
+import org.thymeleaf.extras.java8time.expression.Temporals;
+import static org.junit.Assert.*;
+
+/**
+ * Tests regarding the coarse and fixed clocks used for creating current dates.
+ */
+public class TemporalCoarseClockTest {
+
+    @Test
+    public void testCoarseClockFollowsTheSystemClock() throws Exception {
+        Clock clock = TemporalCoarseClock.of(Duration.ofMillis(5), ZoneOffset.UTC);
+        Instant first = clock.instant();
+        assertTrue(Math.abs(System.currentTimeMillis() - clock.millis()) < 1000);
+        Thread.sleep(50);
+        assertTrue(clock.instant().isAfter(first));
+    }
+
+    @Test
+    public void testClocksOfTheSameResolutionShareTheirInstant() {
+        ZoneId zone = ZoneId.of("Europe/Madrid");
+        Clock clock = TemporalCoarseClock.of(Duration.ofMillis(20), ZoneOffset.UTC);
+        Clock other = TemporalCoarseClock.of(Duration.ofMillis(20), zone);
+        assertEquals(other, clock.withZone(zone));
+        assertEquals(zone, clock.withZone(zone).getZone());
+        assertSame(clock, clock.withZone(ZoneOffset.UTC));
+    }
+
+    @Test
+    public void testShutdownStopsTheRefreshThread() throws Exception {
+        Clock clock = TemporalCoarseClock.of(Duration.ofMillis(5), ZoneOffset.UTC);
+        assertTrue(isRefreshThreadAlive());
+        TemporalObjects.shutdown();
+        for (int i = 0; i < 100 && isRefreshThreadAlive(); i++) {
+            Thread.sleep(10);
+        }
+        assertFalse(isRefreshThreadAlive());
+        // Clocks created before the shutdown read the system clock instead of a stale instant
+        Instant before = Instant.now();
+        Thread.sleep(20);
+        assertTrue(clock.instant().isAfter(before));
+
+        Clock newClock = TemporalCoarseClock.of(Duration.ofMillis(5), ZoneOffset.UTC);
+        assertNotEquals(clock, newClock);
+        assertTrue(isRefreshThreadAlive());
+        Thread.sleep(20);
+        assertTrue(newClock.instant().isAfter(before));
+    }
+
+    @Test
+    public void testCreationWithCoarseAndFixedClocks() {
+        Clock clock = Clock.fixed(Instant.parse("2015-12-31T23:59:30Z"), ZoneOffset.UTC);
+        Temporals temporals = new Temporals(Locale.ENGLISH, ZoneOffset.UTC, clock);
+        assertEquals(LocalDateTime.of(2015, 12, 31, 23, 59, 30), temporals.createNow());
+        assertEquals(ZonedDateTime.of(2016, 1, 1, 0, 0, 0, 0, ZoneId.of("Europe/Madrid")),
+            temporals.createTodayForTimeZone("Europe/Madrid"));
+
+        Temporals coarse = new Temporals(Locale.ENGLISH, ZoneOffset.UTC,
+            TemporalCoarseClock.of(Duration.ofMillis(1), ZoneOffset.UTC));
+        assertTrue(Duration.between((LocalDateTime) coarse.createNow(), LocalDateTime.now(ZoneOffset.UTC)).abs().getSeconds() < 1);
+    }
+
+    private static boolean isRefreshThreadAlive() {
+        return Thread.getAllStackTraces().keySet().stream()
+            .anyMatch(thread -> thread.getName().equals("thymeleaf-java8time-coarse-clock") && thread.isAlive());
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2014 The THYMELEAF team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests regarding the formatting of each distinct value of a batch only once.
+ */
+public class TemporalDistinctFormatterTest {
+
+    @Test
+    public void testDistinctValuesAreFormattedOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        Function<Object, String> formatter = TemporalDistinctFormatter.forBatch(target -> {
+            calls.incrementAndGet();
+            return target.toString();
+        }, 20000);
+        for (int i = 0; i < 20000; i++) {
+            assertEquals(LocalDate.of(2015, 1, 1 + i % 30).toString(), formatter.apply(LocalDate.of(2015, 1, 1 + i % 30)));
+        }
+        assertEquals(30, calls.get());
+    }
+
+    @Test
+    public void testOtherTemporalsAreAlwaysFormatted() {
+        AtomicInteger calls = new AtomicInteger();
+        Function<Object, String> formatter = TemporalDistinctFormatter.forBatch(target -> {
+            calls.incrementAndGet();
+            return DateTimeFormatter.ISO_LOCAL_DATE.format((TemporalAccessor) target);
+        }, 100);
+        MutableDate date = new MutableDate(LocalDate.of(2015, 1, 1));
+        assertEquals("2015-01-01", formatter.apply(date));
+        date.date = LocalDate.of(2015, 1, 2);
+        assertEquals("2015-01-02", formatter.apply(date));
+        assertEquals("2015-01-02", formatter.apply(new MutableDate(LocalDate.of(2015, 1, 2))));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void testLookupsStopWhenDuplicatesAreRare() {
+        AtomicInteger calls = new AtomicInteger();
+        Function<Object, String> formatter = TemporalDistinctFormatter.forBatch(target -> {
+            calls.incrementAndGet();
+            return target.toString();
+        }, 2000);
+        LocalDate date = LocalDate.of(2015, 1, 1);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(date.plusDays(i).toString(), formatter.apply(date.plusDays(i)));
+        }
+        // Once stopped, the values already seen are formatted again
+        formatter.apply(date);
+        assertEquals(1001, calls.get());
+    }
+
+    @Test
+    public void testBatchFormattingKeepsOrder() {
+        List<Temporal> times = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            times.add(LocalDateTime.of(2015, 1, 1 + i % 31, i % 24, 0));
+        }
+        TemporalListUtils listUtils = new TemporalListUtils(Locale.ENGLISH, ZoneOffset.UTC);
+        TemporalFormattingUtils formattingUtils = new TemporalFormattingUtils(Locale.ENGLISH, ZoneOffset.UTC);
+        List<String> result = listUtils.listFormat(times, "dd/MM/yyyy HH:mm");
+        for (int i = 0; i < times.size(); i++) {
+            assertEquals(formattingUtils.format(times.get(i), "dd/MM/yyyy HH:mm"), result.get(i));
+        }
+    }
+
+    @Test
+    public void testSmallBatchesAreNotWrapped() {
+        Function<Object, String> function = Object::toString;
+        assertSame(function, TemporalDistinctFormatter.forBatch(function, 3));
+    }
+
+
+    /*
+     * Temporal object with value-based equality whose value can change.
+     */
+    private static final class MutableDate implements TemporalAccessor {
+
+        private LocalDate date;
+
+        MutableDate(LocalDate date) {
+            this.date = date;
+        }
+
+        @Override
+        public boolean isSupported(TemporalField field) {
+            return date.isSupported(field);
+        }
+
+        @Override
+        public long getLong(TemporalField field) {
+            return date.getLong(field);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof MutableDate && ((MutableDate) obj).date.equals(date);
+        }
+
+        @Override
+        public int hashCode() {
+            return date.hashCode();
+        }
+
+    }
+
+}
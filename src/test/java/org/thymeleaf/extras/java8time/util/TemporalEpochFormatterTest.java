@@ -0,0 +1,106 @@
+/*
+ * Copyright 2014 The THYMELEAF team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.Test;
+import org.thymeleaf.exceptions.TemplateProcessingException;
+import static org.junit.Assert.*;
+
+/**
+ * Tests regarding the formatting of epoch-based primitive columns, compared with the formatting
+ * of the equivalent Java 8 Time objects.
+ */
+public class TemporalEpochFormatterTest {
+
+    private static final String[] DATE_TIME_PATTERNS = {
+        "yyyy-MM-dd HH:mm:ss.SSS", "EEEE, d MMMM uuuu h:mm a", "dd/MM/yy G D e c Q", "YYYY-'W'ww-e",
+        "yyyy-MM-dd'T'HH:mm:ssXXX '['VV']'", "d MMM yyyy HH:mm z", "k K A n N"
+    };
+
+    private static final String[] DATE_PATTERNS = {
+        "yyyy-MM-dd", "EEEE, d MMMM uuuu", "dd/MM/yy G D e c Q", "YYYY-'W'ww-e", "LLLL W F"
+    };
+
+    private final TemporalArrayUtils arrayUtils = new TemporalArrayUtils(Locale.ENGLISH, ZoneOffset.UTC);
+
+    @Test
+    public void testEpochMillis() {
+        Random random = new Random(20150101L);
+        long[] millis = new long[2000];
+        for (int i = 0; i < millis.length; i++) {
+            // From about 1900 to 2100, in increasing order as in a real column
+            millis[i] = -2208988800000L + i * 3155760000L + random.nextInt(1000000000);
+        }
+        millis[0] = 0L;
+        millis[1] = -1L;
+        for (String zone : new String[] {"UTC", "Europe/Madrid", "America/New_York", "Asia/Kolkata"}) {
+            ZoneId zoneId = ZoneId.of(zone);
+            for (String pattern : DATE_TIME_PATTERNS) {
+                String[] result = arrayUtils.arrayFormatEpochMillis(millis, pattern, zoneId);
+                DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern, Locale.ENGLISH);
+                for (int i = 0; i < millis.length; i++) {
+                    assertEquals(formatter.format(ZonedDateTime.ofInstant(Instant.ofEpochMilli(millis[i]), zoneId)), result[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testEpochSecondsAroundTransitions() {
+        ZoneId zoneId = ZoneId.of("Europe/Madrid");
+        // 2015-03-29T01:00:00Z and 2015-10-25T01:00:00Z, in random order
+        long[] seconds = new long[400];
+        Random random = new Random(20151025L);
+        for (int i = 0; i < seconds.length; i++) {
+            seconds[i] = (i % 2 == 0 ? 1427590800L : 1445734800L) + random.nextInt(7200) - 3600;
+        }
+        String[] result = arrayUtils.arrayFormatEpochSeconds(seconds, "yyyy-MM-dd HH:mm:ss xxx", zoneId);
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss xxx", Locale.ENGLISH);
+        for (int i = 0; i < seconds.length; i++) {
+            assertEquals(formatter.format(ZonedDateTime.ofInstant(Instant.ofEpochSecond(seconds[i]), zoneId)), result[i]);
+        }
+        assertArrayEquals(new String[] {"1970-01-01 00:00"}, arrayUtils.arrayFormatEpochSeconds(new long[] {0L}, "yyyy-MM-dd HH:mm"));
+    }
+
+    @Test
+    public void testEpochDays() {
+        int[] days = new int[1000];
+        for (int i = 0; i < days.length; i++) {
+            days[i] = -800000 + i * 1601;
+        }
+        for (String pattern : DATE_PATTERNS) {
+            String[] result = arrayUtils.arrayFormatEpochDays(days, pattern);
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern, Locale.ENGLISH);
+            for (int i = 0; i < days.length; i++) {
+                assertEquals(formatter.format(LocalDate.ofEpochDay(days[i])), result[i]);
+            }
+        }
+    }
+
+    @Test(expected = TemplateProcessingException.class)
+    public void testEpochDaysHaveNoTime() {
+        arrayUtils.arrayFormatEpochDays(new int[] {0}, "yyyy-MM-dd HH:mm");
+    }
+
+}
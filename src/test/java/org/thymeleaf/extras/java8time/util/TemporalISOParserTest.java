@@ -0,0 +1,119 @@
+/*
+ * Copyright 2014 The THYMELEAF team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Differential tests of the hand-written ISO-8601 parser against the standard parser, with valid
+ * values and random mutations of them.
+ */
+public class TemporalISOParserTest {
+
+    private static final String MUTATIONS = "0123456789-:T.t +Z";
+
+    private final Random random = new Random(20151231L);
+
+    @Test
+    public void testValidDates() {
+        LocalDate date = LocalDate.of(1, 1, 1);
+        while (date.getYear() < 10000) {
+            assertEquals(date, TemporalISOParser.parseISOLocalDate(date.toString()));
+            date = date.plusDays(random.nextInt(40) + 1);
+        }
+        assertEquals(LocalDate.of(0, 2, 29), TemporalISOParser.parseISOLocalDate("0000-02-29"));
+        assertEquals(LocalDate.of(2016, 2, 29), TemporalISOParser.parseISOLocalDate("2016-02-29"));
+    }
+
+    @Test
+    public void testValidDateTimes() {
+        String[] fractions = {"", ":07", ":59.1", ":00.123", ":30.000000001", ":01.999999999", ":45.12345"};
+        for (int i = 0; i < 100000; i++) {
+            String text = String.format("%04d-%02d-%02dT%02d:%02d%s", random.nextInt(10000), random.nextInt(12) + 1,
+                random.nextInt(28) + 1, random.nextInt(24), random.nextInt(60), fractions[random.nextInt(fractions.length)]);
+            assertEquals(LocalDateTime.parse(text), TemporalISOParser.parseISOLocalDateTime(text));
+        }
+    }
+
+    @Test
+    public void testMutatedDates() {
+        for (int i = 0; i < 100000; i++) {
+            String text = mutate(String.format("%04d-%02d-%02d",
+                random.nextInt(10000), random.nextInt(13), random.nextInt(32)));
+            LocalDate expected = null;
+            try {
+                expected = LocalDate.parse(text);
+            } catch (DateTimeException e) {
+                // The fast parser must not accept it either
+            }
+            LocalDate actual = TemporalISOParser.parseISOLocalDate(text);
+            if (actual != null || expected == null) {
+                assertEquals(text, expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void testMutatedDateTimes() {
+        for (int i = 0; i < 100000; i++) {
+            String text = mutate(String.format("%04d-%02d-%02dT%02d:%02d:%02d.%d",
+                random.nextInt(10000), random.nextInt(13), random.nextInt(32),
+                random.nextInt(26), random.nextInt(62), random.nextInt(62), random.nextInt(100000)));
+            LocalDateTime expected = null;
+            try {
+                expected = LocalDateTime.parse(text);
+            } catch (DateTimeException e) {
+                // The fast parser must not accept it either
+            }
+            LocalDateTime actual = TemporalISOParser.parseISOLocalDateTime(text);
+            if (actual != null || expected == null) {
+                assertEquals(text, expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void testUnusualLayoutsAreLeftToTheStandardParser() {
+        assertNull(TemporalISOParser.parseISOLocalDate("+10000-01-01"));
+        assertNull(TemporalISOParser.parseISOLocalDateTime("2015-12-31t23:59"));
+        assertNull(TemporalISOParser.parseISOLocalDateTime("2015-12-31T23:59:00."));
+        assertNull(TemporalISOParser.parseISOLocalDate(null));
+    }
+
+    private String mutate(String text) {
+        StringBuilder result = new StringBuilder(text);
+        for (int i = random.nextInt(3); i > 0; i--) {
+            int pos = random.nextInt(result.length());
+            switch (random.nextInt(3)) {
+                case 0:
+                    result.setCharAt(pos, MUTATIONS.charAt(random.nextInt(MUTATIONS.length())));
+                    break;
+                case 1:
+                    result.deleteCharAt(pos);
+                    break;
+                default:
+                    result.insert(pos, MUTATIONS.charAt(random.nextInt(MUTATIONS.length())));
+            }
+        }
+        return result.toString();
+    }
+
+}
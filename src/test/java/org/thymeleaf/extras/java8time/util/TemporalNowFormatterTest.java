@@ -0,0 +1,59 @@
+/*
+ * Copyright 2014 The THYMELEAF team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests regarding the cached formatting of the current date and time.
+ */
+public class TemporalNowFormatterTest {
+
+    private static final String[] PATTERNS = {
+        "yyyy-MM-dd HH:mm:ss", "HH:mm:ss.SSS", "SSSSSS 'at' EEEE d MMMM", "yyyy-MM-dd'T'HH:mm:ss.SSSSSSSSS",
+        "HH:mm:ss.n", "S"};
+
+    private final TemporalFormattingUtils formattingUtils = new TemporalFormattingUtils(Locale.ENGLISH, ZoneOffset.UTC);
+
+    @Test
+    public void testAcrossRollovers() {
+        ZoneId zone = ZoneId.of("Europe/Madrid");
+        Instant start = LocalDateTime.of(2015, 12, 31, 23, 59, 58).atZone(zone).toInstant();
+        for (String pattern : PATTERNS) {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern, Locale.ENGLISH);
+            for (long millis = 0; millis < 3000; millis += 7) {
+                Clock clock = Clock.fixed(start.plusMillis(millis).plusNanos(millis * 13), zone);
+                assertEquals(pattern, formatter.format(LocalDateTime.now(clock)), formattingUtils.formatNow(clock, pattern));
+            }
+        }
+    }
+
+    @Test
+    public void testLocale() {
+        Clock clock = Clock.fixed(Instant.parse("2015-12-31T10:00:00Z"), ZoneOffset.UTC);
+        assertEquals("Donnerstag", formattingUtils.formatNow(clock, "EEEE", Locale.GERMAN));
+        assertEquals("Thursday", formattingUtils.formatNow(clock, "EEEE"));
+    }
+
+}
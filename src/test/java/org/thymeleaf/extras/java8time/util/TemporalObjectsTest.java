@@ -0,0 +1,47 @@
+/*
+ * Copyright 2014 The THYMELEAF team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.util.Locale;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests regarding the shared default formatters.
+ */
+public class TemporalObjectsTest {
+
+    @Test
+    public void testDefaultFormattersBeyondTheLocaleLimit() {
+        LocalDate date = LocalDate.of(2015, 12, 31);
+        Instant instant = Instant.parse("2015-12-31T23:59:30Z");
+        DateTimeFormatter english = TemporalObjects.formatterFor(date, Locale.ENGLISH);
+        // More locales than the registered ones, so that the last ones are never registered
+        for (int i = 0; i < 300; i++) {
+            Locale locale = new Locale("en", "X" + i);
+            assertEquals(DateTimeFormatter.ofLocalizedDate(FormatStyle.LONG).withLocale(locale).format(date),
+                TemporalObjects.formatterFor(date, locale).format(date));
+            assertEquals("2015-12-31T23:59:30Z", TemporalObjects.formatterFor(instant, locale).format(instant));
+        }
+        // Locales registered before reaching the limit keep their formatters
+        assertSame(english, TemporalObjects.formatterFor(date, Locale.ENGLISH));
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2014 The THYMELEAF team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.thymeleaf.exceptions.TemplateProcessingException;
+import static org.junit.Assert.*;
+
+/**
+ * Tests regarding the parallel formatting of large arrays and lists.
+ */
+public class TemporalParallelFormatterTest {
+
+    private final TemporalArrayUtils arrayUtils = new TemporalArrayUtils(Locale.ENGLISH, ZoneOffset.UTC);
+    private final TemporalListUtils listUtils = new TemporalListUtils(Locale.ENGLISH, ZoneOffset.UTC);
+
+    private int parallelism;
+
+    @Before
+    public void saveParallelism() {
+        parallelism = TemporalObjects.getParallelism();
+        TemporalObjects.setParallelism(4);
+    }
+
+    @After
+    public void disableParallelFormatting() {
+        TemporalObjects.setParallelThreshold(0);
+        TemporalObjects.setParallelism(parallelism);
+    }
+
+    @Test
+    public void testSameOutputInSameOrder() {
+        List<Temporal> times = new ArrayList<>();
+        LocalDateTime time = LocalDateTime.of(2015, 12, 31, 0, 0);
+        for (int i = 0; i < 20000; i++) {
+            times.add(time);
+            time = time.plusMinutes(17);
+        }
+        Object[] array = times.toArray();
+        List<String> sequentialList = listUtils.listFormat(times, "yyyy-MM-dd HH:mm");
+        String[] sequentialArray = arrayUtils.arrayFormat(array, Locale.GERMAN);
+
+        TemporalObjects.setParallelThreshold(1000);
+        assertEquals(sequentialList, listUtils.listFormat(times, "yyyy-MM-dd HH:mm"));
+        assertArrayEquals(sequentialArray, arrayUtils.arrayFormat(array, Locale.GERMAN));
+        assertEquals(Arrays.asList("31/12/2015"),
+            listUtils.listFormat(Arrays.asList(LocalDate.of(2015, 12, 31)), "dd/MM/yyyy"));
+    }
+
+    @Test
+    public void testChangingParallelismDoesNotShutDownThePoolInUse() throws Exception {
+        Object[] array = new Object[5000];
+        Arrays.fill(array, LocalDate.of(2015, 12, 31));
+        TemporalObjects.setParallelThreshold(1000);
+        arrayUtils.arrayFormat(array, "dd/MM/yyyy");
+        Field poolField = TemporalParallelFormatter.class.getDeclaredField("pool");
+        poolField.setAccessible(true);
+        // Other threads may have obtained this pool and not submitted their tasks yet
+        ForkJoinPool pool = (ForkJoinPool) poolField.get(null);
+        TemporalObjects.setParallelism(2);
+        assertFalse(pool.isShutdown());
+        assertEquals("31/12/2015", arrayUtils.arrayFormat(array, "dd/MM/yyyy")[4999]);
+        assertEquals(2, ((ForkJoinPool) poolField.get(null)).getParallelism());
+    }
+
+    @Test
+    public void testFormattingAfterShutdown() {
+        Object[] array = new Object[5000];
+        Arrays.fill(array, LocalDate.of(2015, 12, 31));
+        TemporalObjects.setParallelThreshold(1000);
+        arrayUtils.arrayFormat(array, "dd/MM/yyyy");
+        TemporalObjects.shutdown();
+        assertEquals("31/12/2015", arrayUtils.arrayFormat(array, "dd/MM/yyyy")[4999]);
+    }
+
+    @Test
+    public void testSingleChunksAreFormattedByTheCallingThread() {
+        Object[] array = new Object[300];
+        Arrays.fill(array, LocalDate.of(2015, 12, 31));
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        String[] result = TemporalParallelFormatter.format(array, () -> time -> {
+            threads.add(Thread.currentThread());
+            return time.toString();
+        });
+        assertEquals("2015-12-31", result[299]);
+        assertEquals(Collections.singleton(Thread.currentThread()), threads);
+    }
+
+    @Test(expected = TemplateProcessingException.class)
+    public void testErrorsArePropagated() {
+        Object[] array = new Object[5000];
+        Arrays.fill(array, LocalDate.of(2015, 12, 31));
+        array[4321] = "2015-12-31";
+        TemporalObjects.setParallelThreshold(1000);
+        arrayUtils.arrayFormat(array, "dd/MM/yyyy");
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2014 The THYMELEAF team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the specialized pattern formatters against the standard JDK formatters.
+ */
+public class TemporalPatternFormatterTest {
+
+    private static final String[] PATTERNS = {
+        "dd/MM/yyyy", "HH:mm", "yyyy-MM-dd HH:mm:ss", "d.M.yy", "uuuu-MM-dd'T'HH:mm:ss.SSS", "yyyyy D DD DDD",
+        "h:mm k K", "'at' HH 'o''clock'", "''HH''", "L/LL", "ss.S SS SSSSSS SSSSSSSSS", "yyy y"};
+
+    private static final TemporalAccessor[] VALUES = {
+        LocalDateTime.of(2015, 12, 31, 23, 59, 45, 123456789),
+        LocalDateTime.of(1, 1, 1, 0, 0, 0, 0),
+        LocalDateTime.of(9999, 2, 3, 12, 5, 7, 1),
+        LocalDateTime.of(2000, 7, 9, 1, 0, 9, 100000000),
+        ZonedDateTime.of(1999, 3, 14, 13, 1, 2, 999999999, ZoneOffset.ofHours(5))};
+
+    @Test
+    public void testAgainstStandardFormatters() {
+        for (String pattern : PATTERNS) {
+            TemporalPatternFormatter.CompiledPattern compiled = TemporalPatternFormatter.CompiledPattern.compile(pattern);
+            assertNotNull(pattern, compiled);
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern, Locale.ENGLISH);
+            for (TemporalAccessor value : VALUES) {
+                char[] buffer = new char[compiled.maxLength];
+                int length = compiled.print(value, buffer);
+                assertEquals(pattern, formatter.format(value), new String(buffer, 0, length));
+            }
+        }
+    }
+
+    @Test
+    public void testNotCompilable() {
+        assertNull(TemporalPatternFormatter.CompiledPattern.compile("dd MMM yyyy"));
+        assertNull(TemporalPatternFormatter.CompiledPattern.compile("EEEE"));
+        assertNull(TemporalPatternFormatter.CompiledPattern.compile("HH:mm[:ss]"));
+        assertNull(TemporalPatternFormatter.CompiledPattern.compile("HH:mm a"));
+    }
+
+    @Test
+    public void testOutOfRangeDelegatesToStandardFormatter() {
+        TemporalPatternFormatter.CompiledPattern compiled = TemporalPatternFormatter.CompiledPattern.compile("yyyy HH");
+        char[] buffer = new char[compiled.maxLength];
+        assertEquals(-1, compiled.print(LocalDateTime.of(10000, 1, 1, 0, 0), buffer));
+        assertEquals(-1, compiled.print(LocalDate.of(2015, 1, 1), buffer));
+    }
+
+    @Test
+    public void testPromotion() {
+        String pattern = "HH:mm:ss";
+        TemporalPatternFormatter formatter =
+            new TemporalPatternFormatter(pattern, DateTimeFormatter.ofPattern(pattern, Locale.ENGLISH), true);
+        LocalTime time = LocalTime.of(9, 5, 3);
+        for (int i = 0; i < TemporalPatternFormatter.getPromotionThreshold() - 1; i++) {
+            assertEquals("09:05:03", formatter.format(time));
+        }
+        assertFalse(formatter.isSpecialized());
+        assertEquals("09:05:03", formatter.format(time));
+        assertTrue(formatter.isSpecialized());
+        assertEquals("09:05:03", formatter.format(time));
+    }
+
+    @Test
+    public void testConcurrentPromotionCompilesOnce() throws Exception {
+        String pattern = "'concurrent' HH:mm:ss";
+        TemporalPatternFormatter formatter =
+            new TemporalPatternFormatter(pattern, DateTimeFormatter.ofPattern(pattern, Locale.ENGLISH), true);
+        AtomicInteger specializations = new AtomicInteger();
+        TemporalObjects.setMetricsSink(new TemporalMetricsSink() {
+            @Override
+            public void patternSpecialized(String specializedPattern) {
+                specializations.incrementAndGet();
+            }
+        });
+        try {
+            LocalTime time = LocalTime.of(9, 5, 3);
+            Thread[] threads = new Thread[8];
+            for (int i = 0; i < threads.length; i++) {
+                threads[i] = new Thread(() -> {
+                    for (int j = 0; j < TemporalPatternFormatter.getPromotionThreshold(); j++) {
+                        assertEquals("concurrent 09:05:03", formatter.format(time));
+                    }
+                });
+                threads[i].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } finally {
+            TemporalObjects.setMetricsSink(null);
+        }
+        assertTrue(formatter.isSpecialized());
+        assertEquals(1, specializations.get());
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2014 The THYMELEAF team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Locale;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests regarding the cache of formatted results.
+ */
+public class TemporalResultCacheTest {
+
+    private final TemporalFormattingUtils formattingUtils = new TemporalFormattingUtils(Locale.ENGLISH, ZoneOffset.UTC);
+
+    @Before
+    public void enableCache() {
+        TemporalResultCache.enable(100);
+        TemporalResultCache.clear();
+    }
+
+    @After
+    public void disableCache() {
+        TemporalResultCache.disable();
+    }
+
+    @Test
+    public void testRepeatedValues() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals("2015-12-31", formattingUtils.format(LocalDate.of(2015, 12, 31), "yyyy-MM-dd"));
+        }
+        assertEquals("31-12-2015", formattingUtils.format(LocalDate.of(2015, 12, 31), "dd-MM-yyyy"));
+        assertEquals("2015-12-31T00:00:00.000+0000", formattingUtils.formatISO(LocalDate.of(2015, 12, 31)));
+        assertEquals(9, TemporalResultCache.getHitCount());
+        assertEquals(3, TemporalResultCache.getMissCount());
+        assertEquals(0.75, TemporalResultCache.getHitRatio(), 0.0001);
+        assertEquals(3, TemporalResultCache.size());
+    }
+
+    @Test
+    public void testLocaleIsPartOfTheKey() {
+        assertEquals("December", formattingUtils.format(LocalDate.of(2015, 12, 31), "MMMM"));
+        assertEquals("Dezember", formattingUtils.format(LocalDate.of(2015, 12, 31), "MMMM", Locale.GERMAN));
+        assertEquals(0, TemporalResultCache.getHitCount());
+    }
+
+    @Test
+    public void testBounded() {
+        for (int i = 0; i < 1000; i++) {
+            formattingUtils.format(LocalDate.ofEpochDay(i), "yyyy-MM-dd");
+        }
+        assertTrue(TemporalResultCache.size() <= 100);
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2014 The THYMELEAF team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.thymeleaf.extras.java8time.util;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.chrono.JapaneseDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import org.junit.Test;
+import org.thymeleaf.exceptions.TemplateProcessingException;
+import static org.junit.Assert.*;
+
+/**
+ * Tests regarding the incremental formatting of series of temporal objects.
+ */
+public class TemporalSeriesFormatterTest {
+
+    private static final String[] PATTERNS = {
+        "yyyy-MM-dd HH:mm:ss", "dd/MM/yyyy hh:mm a", "EEEE d MMMM yyyy 'at' HH:mm:ss.SSS", "HH 'o''clock' mm",
+        "yyyy-MM-dd", "MMM d, yyyy h a", "'week' w 'of' YYYY, HH:mm z", "[yyyy] HH:mm", "mm:ss"};
+
+    private final TemporalListUtils listUtils = new TemporalListUtils(Locale.ENGLISH, ZoneOffset.UTC);
+    private final TemporalArrayUtils arrayUtils = new TemporalArrayUtils(Locale.ENGLISH, ZoneOffset.UTC);
+
+    @Test
+    public void testSortedSeries() {
+        ZoneId zone = ZoneId.of("Europe/Madrid");
+        List<Temporal> series = new ArrayList<>();
+        ZonedDateTime time = LocalDateTime.of(2015, 3, 28, 22, 0).atZone(zone);
+        for (int i = 0; i < 500; i++) {
+            series.add(time);
+            time = time.plusMinutes(7).plusNanos(123456789);
+        }
+        for (String pattern : PATTERNS) {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern, Locale.ENGLISH);
+            List<String> expected = new ArrayList<>();
+            for (Temporal element : series) {
+                expected.add(formatter.format(element));
+            }
+            assertEquals(pattern, expected, listUtils.listFormat(series, pattern));
+            assertEquals(pattern, expected, Arrays.asList(arrayUtils.arrayFormat(series.toArray(), pattern)));
+        }
+    }
+
+    @Test
+    public void testMixedSeries() {
+        LocalDateTime dateTime = LocalDateTime.of(2015, 12, 31, 10, 30);
+        List<Temporal> series = Arrays.asList(
+            dateTime, dateTime.atOffset(ZoneOffset.UTC), JapaneseDate.from(dateTime).atTime(dateTime.toLocalTime()),
+            dateTime.plusMinutes(5), dateTime.plusHours(1));
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy MMMM dd HH:mm", Locale.GERMAN);
+        for (int i = 0; i < series.size(); i++) {
+            assertEquals(formatter.format(series.get(i)),
+                listUtils.listFormat(series, "yyyy MMMM dd HH:mm", Locale.GERMAN).get(i));
+        }
+        List<LocalTime> times = Arrays.asList(LocalTime.of(10, 0), LocalTime.of(10, 1), LocalTime.of(11, 1));
+        assertEquals(Arrays.asList("10:00", "10:01", "11:01"), listUtils.listFormat(times, "HH:mm"));
+    }
+
+    @Test
+    public void testSegmentsAreNotSharedFormatters() {
+        List<String> created = new ArrayList<>();
+        TemporalMetricsSink previousSink = TemporalObjects.getMetricsSink();
+        TemporalObjects.setMetricsSink(new TemporalMetricsSink() {
+            @Override
+            public void formatterCreated(String pattern, Locale locale) {
+                created.add(pattern);
+            }
+        });
+        try {
+            List<Temporal> series = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                series.add(LocalDateTime.of(2015, 12, 31, 10, 30).plusMinutes(i));
+            }
+            listUtils.listFormat(series, "dd/MM/yyyy 'segments' HH.mm");
+            for (String pattern : created) {
+                assertEquals("dd/MM/yyyy 'segments' HH.mm", pattern);
+            }
+        } finally {
+            TemporalObjects.setMetricsSink(previousSink);
+        }
+    }
+
+    @Test(expected = TemplateProcessingException.class)
+    public void testInvalidPattern() {
+        listUtils.listFormat(Arrays.asList(LocalDateTime.of(2015, 12, 31, 10, 30)), "yyyy-MM-dd HHHHH");
+    }
+
+    @Test(expected = TemplateProcessingException.class)
+    public void testUnsupportedField() {
+        listUtils.listFormat(Arrays.asList(LocalTime.of(10, 0)), "yyyy HH:mm");
+    }
+
+}
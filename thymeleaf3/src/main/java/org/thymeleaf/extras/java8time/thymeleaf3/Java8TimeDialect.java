@@ -0,0 +1,71 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2011-2014, The THYMELEAF team (http://www.thymeleaf.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.thymeleaf.extras.java8time.thymeleaf3;
+
+import org.thymeleaf.dialect.AbstractDialect;
+import org.thymeleaf.dialect.IExpressionObjectDialect;
+import org.thymeleaf.expression.IExpressionObjectFactory;
+import org.thymeleaf.extras.java8time.dialect.Java8TimeDialectConfiguration;
+import org.thymeleaf.util.Validate;
+
+/**
+ * <p>
+ * Thymeleaf 3 Dialect to format and create Java 8 Time objects.
+ * </p>
+ * <p>
+ * It provides the same <tt>#temporals</tt> object as the Thymeleaf 2.1 dialect, and shares the
+ * same JVM-wide formatter and result caches.
+ * </p>
+ *
+ * @author Jos&eacute; Miguel Samper
+ *
+ * @since 2.1.1
+ */
+public class Java8TimeDialect extends AbstractDialect implements IExpressionObjectDialect {
+
+    private final Java8TimeDialectConfiguration configuration;
+    private final IExpressionObjectFactory expressionObjectFactory;
+
+    public Java8TimeDialect() {
+        this(Java8TimeDialectConfiguration.builder().build());
+    }
+
+    /**
+     * Creates a dialect with the given configuration. The settings of the shared caches are
+     * applied to the whole JVM.
+     */
+    public Java8TimeDialect(final Java8TimeDialectConfiguration configuration) {
+        super("java8time");
+        Validate.notNull(configuration, "Configuration cannot be null");
+        this.configuration = configuration;
+        this.expressionObjectFactory = new Java8TimeExpressionFactory(configuration);
+        configuration.applySharedSettings();
+    }
+
+    public Java8TimeDialectConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    @Override
+    public IExpressionObjectFactory getExpressionObjectFactory() {
+        return expressionObjectFactory;
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2011-2014, The THYMELEAF team (http://www.thymeleaf.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.thymeleaf.extras.java8time.thymeleaf3;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Function;
+import org.thymeleaf.context.IExpressionContext;
+import org.thymeleaf.expression.IExpressionObjectFactory;
+import org.thymeleaf.extras.java8time.dialect.Java8TimeDialectConfiguration;
+import org.thymeleaf.extras.java8time.dialect.Java8TimeTemporalsPool;
+import org.thymeleaf.extras.java8time.expression.Temporals;
+
+/**
+ * <p>
+ * Builds the <tt>#temporals</tt> expression object for Thymeleaf 3.
+ * </p>
+ * <p>
+ * <tt>Temporals</tt> objects are immutable, so the object is declared cacheable and a single
+ * instance per locale is shared by all template executions (see {@link Java8TimeTemporalsPool}).
+ * </p>
+ *
+ * @author Jos&eacute; Miguel Samper
+ *
+ * @since 2.1.1
+ */
+public class Java8TimeExpressionFactory implements IExpressionObjectFactory {
+
+    private static final String TEMPORAL_EVALUATION_VARIABLE_NAME = "temporals";
+
+    private static final Set<String> ALL_EXPRESSION_OBJECT_NAMES =
+        Collections.singleton(TEMPORAL_EVALUATION_VARIABLE_NAME);
+
+    private final Java8TimeTemporalsPool<Temporals> temporals;
+
+    public Java8TimeExpressionFactory(final Java8TimeDialectConfiguration configuration) {
+        super();
+        this.temporals = new Java8TimeTemporalsPool<>(configuration, Function.identity());
+    }
+
+    @Override
+    public Set<String> getAllExpressionObjectNames() {
+        return ALL_EXPRESSION_OBJECT_NAMES;
+    }
+
+    @Override
+    public Object buildObject(final IExpressionContext context, final String expressionObjectName) {
+        if (!TEMPORAL_EVALUATION_VARIABLE_NAME.equals(expressionObjectName)) {
+            return null;
+        }
+        return temporals.get(context.getLocale());
+    }
+
+    @Override
+    public boolean isCacheable(final String expressionObjectName) {
+        return TEMPORAL_EVALUATION_VARIABLE_NAME.equals(expressionObjectName);
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2014 The THYMELEAF team.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.thymeleaf.extras.java8time.thymeleaf3;
+
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.context.ExpressionContext;
+import org.thymeleaf.extras.java8time.dialect.Java8TimeDialectConfiguration;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
+import static org.junit.Assert.*;
+
+/**
+ * Tests regarding the Thymeleaf 3 dialect.
+ */
+public class Java8TimeDialectTest {
+
+    @Test
+    public void testTemplate() {
+        StringTemplateResolver templateResolver = new StringTemplateResolver();
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        TemplateEngine templateEngine = new TemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        templateEngine.addDialect(new Java8TimeDialect(
+            Java8TimeDialectConfiguration.builder().defaultZoneId(ZoneOffset.UTC).build()));
+
+        Context context = new Context(Locale.ENGLISH);
+        context.setVariable("date", LocalDate.of(2015, 12, 31));
+        assertEquals("<p>31 December 2015</p><p>2015-12-31T00:00:00.000+0000</p>", templateEngine.process(
+            "<p th:text=\"${#temporals.format(date, 'd MMMM yyyy')}\"></p><p th:text=\"${#temporals.formatISO(date)}\"></p>",
+            context));
+    }
+
+    @Test
+    public void testIterableFormatIsNotCopiedByEach() {
+        StringTemplateResolver templateResolver = new StringTemplateResolver();
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        TemplateEngine templateEngine = new TemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        templateEngine.addDialect(new Java8TimeDialect());
+
+        AtomicInteger reads = new AtomicInteger();
+        Iterator<LocalDate> dates = new Iterator<LocalDate>() {
+
+            @Override
+            public boolean hasNext() {
+                return reads.get() < 1000;
+            }
+
+            @Override
+            public LocalDate next() {
+                return LocalDate.of(2015, 1, 1).plusDays(reads.getAndIncrement());
+            }
+
+        };
+        AtomicInteger readsWhenFirstWritten = new AtomicInteger(-1);
+        StringWriter writer = new StringWriter() {
+
+            @Override
+            public void write(String str, int off, int len) {
+                super.write(str, off, len);
+                recordReads();
+            }
+
+            @Override
+            public void write(char[] cbuf, int off, int len) {
+                super.write(cbuf, off, len);
+                recordReads();
+            }
+
+            @Override
+            public void write(int c) {
+                super.write(c);
+                recordReads();
+            }
+
+            private void recordReads() {
+                if (readsWhenFirstWritten.get() < 0 && getBuffer().indexOf("01/01/2015") >= 0) {
+                    readsWhenFirstWritten.set(reads.get());
+                }
+            }
+
+        };
+        Context context = new Context(Locale.ENGLISH);
+        context.setVariable("dates", dates);
+        templateEngine.process(
+            "<li th:each=\"date : ${#temporals.iteratorFormat(dates, 'dd/MM/yyyy')}\" th:text=\"${date}\"></li>",
+            context, writer);
+
+        assertEquals(1000, writer.toString().split("<li>", -1).length - 1);
+        assertTrue(writer.toString().endsWith("<li>26/09/2017</li>"));
+        // Each element is rendered before the next one is read, instead of after all of them
+        assertTrue("Read " + readsWhenFirstWritten.get() + " elements before rendering the first one",
+            readsWhenFirstWritten.get() >= 1 && readsWhenFirstWritten.get() <= 2);
+    }
+
+    @Test
+    public void testTemporalsAreCacheableAndShared() {
+        Java8TimeExpressionFactory factory = new Java8TimeExpressionFactory(Java8TimeDialectConfiguration.builder().build());
+        assertTrue(factory.isCacheable("temporals"));
+        TemplateEngine templateEngine = new TemplateEngine();
+        Object temporals = factory.buildObject(
+            new ExpressionContext(templateEngine.getConfiguration(), Locale.ENGLISH), "temporals");
+        assertNotNull(temporals);
+        assertSame(temporals, factory.buildObject(
+            new ExpressionContext(templateEngine.getConfiguration(), Locale.ENGLISH), "temporals"));
+        assertNotSame(temporals, factory.buildObject(
+            new ExpressionContext(templateEngine.getConfiguration(), Locale.GERMAN), "temporals"));
+    }
+
+}